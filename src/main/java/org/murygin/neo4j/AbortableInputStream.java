@@ -0,0 +1,178 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * An input stream which reads another stream in a background thread. 
+ * A read which waits for data can be aborted from any thread. 
+ * 
+ * HttpURLConnection does not stop a read which is blocked in a chunked 
+ * response if the connection is closed, close() waits for the read. 
+ * This stream returns at once when it is aborted. The background thread 
+ * closes the stream and its resource when its read returns.
+ */
+class AbortableInputStream extends InputStream {
+
+    private static final byte[] END = new byte[0];
+    private static final int CHUNK_SIZE = 8192;
+    private static final int QUEUE_CAPACITY = 4;
+    
+    // Interval in which a waiting thread checks if the stream is aborted
+    private static final long ABORT_POLL_INTERVAL = 50;
+    
+    private final InputStream in;
+    private final Closeable resource;
+    private final BlockingQueue<byte[]> chunks = new ArrayBlockingQueue<byte[]>(QUEUE_CAPACITY);
+    private volatile boolean aborted = false;
+    private volatile IOException failure;
+    private byte[] chunk;
+    private int position;
+    
+    /**
+     * @param in The stream which is read in the background
+     * @param resource A resource which is closed after the stream or null
+     * @param executor The executor of the background thread
+     */
+    AbortableInputStream(InputStream in, Closeable resource, Executor executor) {
+        super();
+        this.in = in;
+        this.resource = resource;
+        executor.execute(this::transfer);
+    }
+    
+    private void transfer() {
+        try {
+            while (!aborted) {
+                byte[] buffer = new byte[CHUNK_SIZE];
+                int read = in.read(buffer);
+                if (read == -1) {
+                    break;
+                }
+                offer((read == CHUNK_SIZE) ? buffer : Arrays.copyOf(buffer, read));
+            }
+        } catch (IOException e) {
+            failure = e;
+        } finally {
+            closeQuietly(in);
+            closeQuietly(resource);
+            offer(END);
+        }
+    }
+    
+    private void offer(byte[] data) {
+        try {
+            while (!aborted && !chunks.offer(data, ABORT_POLL_INTERVAL, TimeUnit.MILLISECONDS)) {
+                // the reader is slow, wait
+            }
+        } catch (InterruptedException e) {
+            aborted = true;
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!fill()) {
+            return -1;
+        }
+        return chunk[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (!fill()) {
+            return -1;
+        }
+        int n = Math.min(length, chunk.length - position);
+        System.arraycopy(chunk, position, buffer, offset, n);
+        position += n;
+        return n;
+    }
+    
+    /**
+     * Waits for the next chunk if the current chunk is read.
+     * 
+     * @return false at the end of the stream
+     */
+    private boolean fill() throws IOException {
+        while (chunk == null || position >= chunk.length) {
+            if (chunk == END) {
+                if (failure != null && !aborted) {
+                    throw failure;
+                }
+                return false;
+            }
+            if (aborted) {
+                throw new IOException("Read aborted");
+            }
+            try {
+                byte[] next = chunks.poll(ABORT_POLL_INTERVAL, TimeUnit.MILLISECONDS);
+                if (next != null) {
+                    chunk = next;
+                    position = 0;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while reading");
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Stops a waiting read and all following reads. Can be called from any thread. 
+     */
+    public void abort() {
+        aborted = true;
+    }
+    
+    public boolean isAborted() {
+        return aborted;
+    }
+
+    /**
+     * Aborts the stream. The background thread closes the 
+     * stream and the resource when its read returns.
+     */
+    @Override
+    public void close() {
+        abort();
+    }
+    
+    private static void closeQuietly(Closeable closeable) {
+        if (closeable == null) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (IOException | RuntimeException e) {
+            // the stream is finished, nothing to do
+        }
+    }
+}
@@ -19,15 +19,25 @@
  ******************************************************************************/
 package org.murygin.neo4j;
 
-import java.util.Hashtable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.jgrapht.DirectedGraph;
 import org.jgrapht.graph.DirectedPseudograph;
 import org.json.simple.JSONArray;
 import org.json.simple.JSONObject;
+import org.murygin.neo4j.alg.IndexedGraph;
+import org.murygin.neo4j.alg.LandmarkIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,6 +52,39 @@ import org.slf4j.LoggerFactory;
  * 
  * Queries are executed by class {@link CypherToJson}.
  * 
+ * On dense graphs use executeCompact(..). The graph format sends a node 
+ * again in every row it appears in, compact mode sends every node and 
+ * relationship once.
+ * 
+ * To load the neighborhood of a few nodes use expand(..). Results 
+ * which are too large for one response are loaded by executePaged(..).
+ * 
+ * Set a {@link MemoryBudget} to limit the size of responses and of the 
+ * graph. A query with a huge result fails with a {@link MemoryBudgetExceededException} 
+ * or returns an incomplete graph instead of exhausting the heap.
+ * 
+ * executeStreaming(..) builds the graph while the response is decoded. 
+ * To process nodes and relationships without building a graph subscribe 
+ * to publish(..).
+ * 
+ * To find nodes by label or property without scanning the graph 
+ * set a {@link GraphIndex} before loading.
+ * 
+ * To share nodes and edges between the results of many queries set a 
+ * {@link GraphStore}. Every query then returns a new {@link GraphView} 
+ * of the store.
+ * 
+ * Call freeze() after loading to get an immutable, read optimized graph.
+ * 
+ * For many shortest path queries on the loaded graph call 
+ * setNumberOfLandmarks(..) before loading and use getLandmarkIndex().
+ * By default the index is created by the first call of getLandmarkIndex(),
+ * call setCreateLandmarkIndexAfterLoad(true) to create it in the background 
+ * right after loading.
+ * 
+ * A {@link Deadline} bounds the request and the creation of the graph. 
+ * If it is exceeded or cancelled a {@link QueryCancelledException} is thrown.
+ * 
  * See: http://neo4j.com/
  * See: http://neo4j.com/docs/stable/cypher-query-lang.html
  * See: http://jgrapht.org/
@@ -57,9 +100,46 @@ public class CypherToJGraphT {
     private String port = CypherToJson.DEFAULT_PORT;
     private String path = CypherToJson.DEFAULT_PATH;
     private String query = CypherToJson.DEFAULT_QUERY;
+    
+    private int connectTimeout = CypherToJson.DEFAULT_CONNECT_TIMEOUT;
+    private int readTimeout = CypherToJson.DEFAULT_READ_TIMEOUT;
+    private Deadline deadline;
+    private HedgePolicy hedgePolicy;
+    private AtomicLong responseByteCounter;
+
+    // the relationships are projected first, the variables of the MATCH clause are out of scope after WITH
+    public static final String COMPACT_NODE_QUERY = "%1$s WITH DISTINCT %2$s AS r UNWIND [startNode(r), endNode(r)] AS node WITH DISTINCT node RETURN id(node), labels(node), node";
+    public static final String COMPACT_RELATION_QUERY = "%1$s WITH DISTINCT %2$s AS r RETURN id(r), id(startNode(r)), id(endNode(r)), type(r), r";
+
+    public static final String EXPAND_SEED_QUERY = "MATCH (n) WHERE id(n) IN [%s] RETURN id(n), labels(n), n";
+    public static final String EXPAND_QUERY = "MATCH (n)-[r%s]-(m) WHERE id(n) IN [%s]%s RETURN id(r), id(startNode(r)), id(endNode(r)), type(r), r, id(m), labels(m), m";
+    public static final int DEFAULT_EXPAND_BATCH_SIZE = 10000;
+    public static final int DEFAULT_STREAM_BATCH_SIZE = 1000;
+    
+    private int expandBatchSize = DEFAULT_EXPAND_BATCH_SIZE;
+    private int numberOfLandmarks = 0;
+    private LandmarkIndex landmarkIndex;
+    private DirectedGraph<Node, Edge> landmarkGraph;
+    private boolean createLandmarkIndexAfterLoad = false;
+    private CompletableFuture<LandmarkIndex> landmarkIndexFuture;
+    private MemoryBudget memoryBudget;
+    private GraphFootprint footprint = new GraphFootprint();
+    private boolean truncated = false;
+    private GraphIndex graphIndex;
+    private int streamBatchSize = DEFAULT_STREAM_BATCH_SIZE;
+    private GraphStore graphStore;
 
     private DirectedGraph<Node, Edge> graph;
-    private Map<String, Node> nodeMap;
+    
+    // Nodes and relationships of the current load by id. Numeric ids 
+    // are kept in primitive maps, a lookup of a loaded id does not allocate.
+    // A node which was in the graph before is mapped to the instance in the graph.
+    private LongObjectMap<Node> nodeMap;
+    private Map<String, Node> otherNodeMap;
+    private LongObjectMap<Boolean> relationIds;
+    private Set<String> otherRelationIds;
+    // Nodes of the graph before the current load, created on demand
+    private Map<Node, Node> existingNodes;
        
     public CypherToJGraphT() {
         super();
@@ -83,24 +163,310 @@ public class CypherToJGraphT {
         return getGraph();
     }
     
+    /**
+     * Loads all relationships matched by a pattern and their start and end nodes 
+     * in compact mode. Example: executeCompact("MATCH (n:station)-[r:train]-()", "r")
+     * 
+     * In compact mode each node and each relationship is sent once in row format 
+     * instead of once per result row in graph format.
+     * 
+     * @param match The MATCH (and WHERE) clause of a Cypher query without RETURN
+     * @param relationVariable The relationship variable of the pattern
+     * @return The result of the query as JGraphT graph
+     */
+    public DirectedGraph<Node, Edge> executeCompact(String match, String relationVariable) {
+        return executeCompactQueries(String.format(COMPACT_NODE_QUERY, match, relationVariable), 
+                String.format(COMPACT_RELATION_QUERY, match, relationVariable));
+    }
+    
+    /**
+     * Loads a graph in compact mode by two queries in row format.
+     * Nodes are loaded first, relationships between nodes which are 
+     * not returned by the node query are ignored. Both results are read
+     * as streams. The queries are executed in separate transactions.
+     * 
+     * @param nodeQuery A query which returns distinct nodes with columns: id, labels, properties
+     * @param relationQuery A query which returns distinct relationships with columns: 
+     *  id, start node id, end node id, type, properties
+     * @return The result of the queries as JGraphT graph
+     */
+    public DirectedGraph<Node, Edge> executeCompactQueries(String nodeQuery, String relationQuery) {
+        load(() -> {
+            CypherToJson executer = createCypherToJson();
+            try (RowCursor nodes = executer.openCursor(nodeQuery)) {
+                while (nodes.hasNext()) {
+                    checkDeadline();
+                    Row row = nodes.next();
+                    addNode(row.getString(0), row.getJsonArray(1), row.getJson(2));
+                }
+            }
+            try (RowCursor relations = executer.openCursor(relationQuery)) {
+                while (relations.hasNext()) {
+                    checkDeadline();
+                    Row row = relations.next();
+                    addRelation(row.getString(0), row.getString(1), row.getString(2), row.getString(3), row.getJson(4));
+                }
+            }
+        });
+        return getGraph();
+    }
+    
+    /**
+     * Executes a Cypher query and loads the result in pages within one 
+     * transaction. " SKIP {skip} LIMIT {limit}" is appended to the query, 
+     * the query needs an ORDER BY clause to return stable pages.
+     * Use this method if the result of a query is too large to be
+     * returned in one response.
+     * 
+     * @param query a Cypher query without SKIP and LIMIT
+     * @param pageSize The number of rows in a page
+     * @return The result of the query as JGraphT graph
+     */
+    public DirectedGraph<Node, Edge> executePaged(String query, int pageSize) {
+        setQuery(query);
+        load(() -> {
+            try (Transaction transaction = createCypherToJson().beginTransaction()) {
+                Map<String, Object> parameters = new HashMap<String, Object>();
+                parameters.put(PagedRowCursor.PARAMETER_LIMIT, pageSize);
+                long skip = 0;
+                int rows;
+                do {
+                    checkDeadline();
+                    parameters.put(PagedRowCursor.PARAMETER_SKIP, skip);
+                    JSONObject json = transaction.execute(query + PagedRowCursor.PAGE_CLAUSE, parameters);
+                    rows = new JsonResults(json).getDataList().size();
+                    convertJsonToGraph(json);
+                    skip += rows;
+                } while (rows == pageSize);
+                transaction.commit();
+            }
+        });
+        return getGraph();
+    }
+
+    /**
+     * Executes a Cypher query and builds the graph while the response is 
+     * decoded. The graph is built by a subscriber of {@link #publish(String)}.
+     * 
+     * @param query A Cypher query
+     * @return The result of the query as JGraphT graph
+     */
+    public DirectedGraph<Node, Edge> executeStreaming(String query) {
+        setQuery(query);
+        load(() -> {
+            GraphBuilder builder = new GraphBuilder();
+            publish(query).subscribe(builder);
+            builder.await();
+        });
+        return getGraph();
+    }
+    
+    /**
+     * Returns a publisher of the nodes and relationships of the result 
+     * of a Cypher query. Subscribers receive the nodes and relationships 
+     * while the response is decoded, no graph is built.
+     * 
+     * @param query A Cypher query
+     * @return A publisher of the nodes and relationships of the result
+     */
+    public GraphEventPublisher publish(String query) {
+        return createCypherToJson().publish(query);
+    }
+
+    /**
+     * Loads the neighborhood of seed nodes up to a depth.
+     * 
+     * @see #expand(Collection, int, Collection, Collection)
+     */
+    public DirectedGraph<Node, Edge> expand(Collection<String> seedIds, int depth) {
+        return expand(seedIds, depth, null, null);
+    }
+    
+    /**
+     * Loads the neighborhood of seed nodes up to a depth by a breadth first 
+     * search. The nodes of each level (the frontier) are expanded by one batched 
+     * query "WHERE id(n) IN [..]" in row format. Nodes which are loaded
+     * already are not expanded again. The number of requests is depth + 1 as
+     * long as a frontier is not larger than the expand batch size.
+     * 
+     * @param seedIds Ids of the start nodes, surrounding whitespace is ignored
+     * @param depth The maximum number of hops from a seed node
+     * @param labels Labels of the neighbors to follow (any of), null or empty for all labels
+     * @param types Types of the relationships to follow, null or empty for all types
+     * @return The graph with the loaded neighborhood
+     */
+    public DirectedGraph<Node, Edge> expand(Collection<String> seedIds, int depth, Collection<String> labels, Collection<String> types) {
+        load(() -> {
+            CypherToJson executer = createCypherToJson();
+            Set<String> visited = normalizeIds(seedIds);
+            List<String> frontier = new ArrayList<String>(visited);
+            loadSeeds(executer, frontier);
+            for (int level = 0; level < depth && !frontier.isEmpty(); level++) {
+                List<String> nextFrontier = new ArrayList<String>();
+                for (int start = 0; start < frontier.size(); start += getExpandBatchSize()) {
+                    List<String> batch = frontier.subList(start, Math.min(frontier.size(), start + getExpandBatchSize()));
+                    String expandQuery = String.format(EXPAND_QUERY, createTypeFilter(types), toIdList(batch), createLabelFilter(labels));
+                    expandBatch(executer, expandQuery, visited, nextFrontier);
+                }
+                if (LOG.isInfoEnabled()) {
+                    LOG.info("Level " + (level + 1) + " expanded, new nodes: " + nextFrontier.size());
+                }
+                frontier = nextFrontier;
+            }
+        });
+        return getGraph();
+    }
+
+    private void loadSeeds(CypherToJson executer, List<String> seedIds) {
+        for (int start = 0; start < seedIds.size(); start += getExpandBatchSize()) {
+            List<String> batch = seedIds.subList(start, Math.min(seedIds.size(), start + getExpandBatchSize()));
+            try (RowCursor nodes = executer.openCursor(String.format(EXPAND_SEED_QUERY, toIdList(batch)))) {
+                while (nodes.hasNext()) {
+                    checkDeadline();
+                    Row row = nodes.next();
+                    addNode(row.getString(0), row.getJsonArray(1), row.getJson(2));
+                }
+            }
+        }
+    }
+
+    private void expandBatch(CypherToJson executer, String expandQuery, Set<String> visited, List<String> nextFrontier) {
+        try (RowCursor rows = executer.openCursor(expandQuery)) {
+            while (rows.hasNext()) {
+                checkDeadline();
+                Row row = rows.next();
+                String neighborId = row.getString(5);
+                if (visited.add(neighborId)) {
+                    addNode(neighborId, row.getJsonArray(6), row.getJson(7));
+                    nextFrontier.add(neighborId);
+                }
+                addRelation(row.getString(0), row.getString(1), row.getString(2), row.getString(3), row.getJson(4));
+            }
+        }
+    }
+
+    /**
+     * @return The ids as written by Neo4j without duplicates, e.g. " 07" is "7"
+     */
+    private static Set<String> normalizeIds(Collection<String> ids) {
+        Set<String> normalized = new LinkedHashSet<String>();
+        for (String id : ids) {
+            // ids are inserted in the query, accept numbers only
+            normalized.add(String.valueOf(Long.parseLong(id.trim())));
+        }
+        return normalized;
+    }
+
+    private static String toIdList(Collection<String> ids) {
+        return String.join(",", ids);
+    }
+
+    private static String createTypeFilter(Collection<String> types) {
+        if (types == null || types.isEmpty()) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(":");
+        for (String type : types) {
+            if (sb.length() > 1) {
+                sb.append("|");
+            }
+            sb.append(quote(type));
+        }
+        return sb.toString();
+    }
+
+    private static String createLabelFilter(Collection<String> labels) {
+        if (labels == null || labels.isEmpty()) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder(" AND (");
+        boolean first = true;
+        for (String label : labels) {
+            if (!first) {
+                sb.append(" OR ");
+            }
+            first = false;
+            sb.append("m:").append(quote(label));
+        }
+        return sb.append(")").toString();
+    }
+
+    private static String quote(String name) {
+        return "`" + name.replace("`", "``") + "`";
+    }
+
     /**
      * Executes a Cypher query.
      * Call setQuery(..) before to set the query. 
      * Call getGraph() to return the resukt.
      */
     public void execute() {
-        nodeMap = new Hashtable<String, Node>();
-        CypherToJson executer = createCypherToJson();
-        executer.execute();
-        JSONObject json = executer.getJson();
-        convertJsonToGraph(json);
-        nodeMap.clear();
+        load(() -> {
+            CypherToJson executer = createCypherToJson();
+            executer.execute();
+            JSONObject json = executer.getJson();
+            convertJsonToGraph(json);
+        });
+    }
+
+    /**
+     * Runs a loader which adds nodes and relations to the graph.
+     * If the memory budget is exceeded and partial results are allowed,
+     * the graph loaded so far is kept.
+     */
+    private void load(Runnable loader) {
+        nodeMap = new LongObjectMap<Node>();
+        otherNodeMap = new HashMap<String, Node>();
+        relationIds = new LongObjectMap<Boolean>();
+        otherRelationIds = new HashSet<String>();
+        existingNodes = null;
+        truncated = false;
+        if (graphStore != null) {
+            graph = graphStore.createView();
+            footprint = new GraphFootprint();
+        }
+        try {
+            loader.run();
+        } catch (MemoryBudgetExceededException e) {
+            if (getMemoryBudget() == null || !getMemoryBudget().isPartialResults()) {
+                throw e;
+            }
+            truncated = true;
+            LOG.warn("Graph is incomplete: " + e.getMessage());
+        } finally {
+            nodeMap.clear();
+            otherNodeMap.clear();
+            relationIds.clear();
+            otherRelationIds.clear();
+            existingNodes = null;
+        }
+        afterLoad();
+    }
+
+    /**
+     * Called after a graph is loaded successfully. 
+     */
+    private void afterLoad() {
+        if (LOG.isInfoEnabled()) {
+            LOG.info("Graph loaded, " + getFootprint());
+        }
+        landmarkIndex = null;
+        landmarkGraph = graph;
+        landmarkIndexFuture = null;
+        if (isCreateLandmarkIndexAfterLoad() && getNumberOfLandmarks() > 0) {
+            // the snapshot is taken here, changes of the graph after loading do not disturb the background thread
+            IndexedGraph indexedGraph = IndexedGraph.create(graph);
+            int landmarks = getNumberOfLandmarks();
+            landmarkIndexFuture = CompletableFuture.supplyAsync(() -> LandmarkIndex.create(indexedGraph, landmarks));
+        }
+        // otherwise the landmark index is created on demand by getLandmarkIndex()
     }
 
     private void convertJsonToGraph(JSONObject json) {
         JsonResults jsonResults = new JsonResults(json);
         List<JSONObject> graphList = jsonResults.getGraphList();     
         for (JSONObject graphJson : graphList) {
+            checkDeadline();
             JSONArray nodes = JsonResults.getJsonArray(graphJson, "nodes");
             addNotes(nodes);
             JSONArray relations = JsonResults.getJsonArray(graphJson, "relationships");
@@ -109,64 +475,179 @@ public class CypherToJGraphT {
     } 
 
     private void addNotes(JSONArray nodes) {
-        for (Object nodeJson : nodes) {
-            Node node = addNode((JSONObject) nodeJson);
-            if(node!=null) {
-                nodeMap.put(node.getId(), node);
-            }
+        for (Object nodeObject : nodes) {
+            JSONObject nodeJson = (JSONObject) nodeObject;
+            String id = (String) nodeJson.get("id");
+            JSONArray labels = JsonResults.getJsonArray(nodeJson, "labels");
+            JSONObject properties = JsonResults.getJson(nodeJson, "properties");
+            addNode(id, labels, properties);
         }
     }
 
-    private Node addNode(JSONObject nodeJson) {
-        String id = (String)nodeJson.get("id");
+    private void addNode(String id, JSONArray labels, JSONObject properties) {
+        if (findNode(id) != null) {
+            return;
+        }
+        Node pooledNode = (graphStore != null) ? graphStore.getNode(id) : null;
+        if (pooledNode != null) {
+            addNode(pooledNode);
+            return;
+        }
         Node node = new Node(id);
-        if(!this.graph.containsVertex(node)) {
-            addLabels(node, nodeJson);
-            addProperties(node, nodeJson);
-            boolean added = this.graph.addVertex(node);
-            logNode(node, added);
-            return node;
+        if (this.graph.containsVertex(node)) {
+            putNode(id, getExistingNode(node));
+            return;
+        }
+        addLabels(node, labels);
+        addProperties(node, properties);
+        addNode(node);
+    }
+    
+    private void addNode(Node node) {
+        long bytes = GraphFootprint.estimate(node);
+        checkMemoryBudget(1, 0, bytes);
+        boolean added = this.graph.addVertex(node);
+        footprint.add(1, 0, bytes);
+        if (graphIndex != null) {
+            graphIndex.add(node);
+        }
+        logNode(node, added);
+        putNode(node.getId(), node);
+    }
+    
+    /**
+     * @return The node with the id in the graph or null if the node is not loaded yet
+     */
+    private Node findNode(String id) {
+        long numericId = LongObjectMap.parseId(id);
+        return (numericId >= 0) ? nodeMap.get(numericId) : otherNodeMap.get(id);
+    }
+    
+    /**
+     * Returns the instance of a node which was added to the graph before 
+     * the current load, for example by an earlier expand(..). Relationships
+     * of the current load are connected to this instance.
+     */
+    private Node getExistingNode(Node node) {
+        if (existingNodes == null) {
+            existingNodes = new HashMap<Node, Node>();
+            for (Node vertex : graph.vertexSet()) {
+                existingNodes.put(vertex, vertex);
+            }
+        }
+        Node existingNode = existingNodes.get(node);
+        return (existingNode != null) ? existingNode : node;
+    }
+    
+    private void putNode(String id, Node node) {
+        long numericId = LongObjectMap.parseId(id);
+        if (numericId >= 0) {
+            nodeMap.put(numericId, node);
+        } else {
+            otherNodeMap.put(id, node);
+        }
+    }
+    
+    private boolean isRelationLoaded(String id) {
+        long numericId = LongObjectMap.parseId(id);
+        return (numericId >= 0) ? relationIds.containsKey(numericId) : otherRelationIds.contains(id);
+    }
+    
+    private void putRelation(String id) {
+        long numericId = LongObjectMap.parseId(id);
+        if (numericId >= 0) {
+            relationIds.put(numericId, Boolean.TRUE);
+        } else {
+            otherRelationIds.add(id);
         }
-        return null;
     }
     
     private void addRelations(JSONArray relations) {
         for (Object relationObject : relations) {
             JSONObject relation = (JSONObject) relationObject;
-            addRelation(relation);
+            addRelation((String) relation.get("id"), 
+                    (String) relation.get("startNode"), 
+                    (String) relation.get("endNode"), 
+                    (String) relation.get("type"), 
+                    JsonResults.getJson(relation, "properties"));
         }
     }
 
-    private void addRelation(JSONObject relation) {
-        String sourceodeId = (String) relation.get("startNode");
-        String targetNodeId = (String) relation.get("endNode");
-        Node sourceNode = nodeMap.get(sourceodeId);
-        Node targetNode = nodeMap.get(targetNodeId);
-        if(sourceNode!=null && targetNode!=null) {
-            String type = (String) relation.get("type");
-            Edge edge = new Edge(sourceNode, targetNode, type);
-            addProperties(edge, relation);
-            boolean added = this.graph.addEdge(sourceNode, targetNode, edge);  
-            logEdge(edge, added);
+    private void addRelation(String id, String sourceNodeId, String targetNodeId, String type, JSONObject properties) {
+        Edge edge = createEdge(id, sourceNodeId, targetNodeId, type);
+        if (edge != null) {
+            if (!isPooled(edge)) {
+                addProperties(edge, properties);
+            }
+            addEdge(edge);
+        }
+    }
+    
+    /**
+     * @return A new or pooled edge between loaded nodes or null if the relationship
+     *  is already loaded or a node is missing
+     */
+    private Edge createEdge(String id, String sourceNodeId, String targetNodeId, String type) {
+        // Queries like "MATCH n-[r]-() RETURN n,r" return every relationship twice
+        if (id != null && isRelationLoaded(id)) {
+            return null;
         }
+        Node sourceNode = findNode(sourceNodeId);
+        Node targetNode = findNode(targetNodeId);
+        if (sourceNode == null || targetNode == null) {
+            return null;
+        }
+        if (id != null) {
+            putRelation(id);
+            Edge pooledEdge = (graphStore != null) ? graphStore.getEdge(id) : null;
+            if (pooledEdge != null) {
+                return pooledEdge;
+            }
+        }
+        return new Edge(id, sourceNode, targetNode, type);
+    }
+    
+    private boolean isPooled(Edge edge) {
+        return graphStore != null && graphStore.containsEdge(edge);
+    }
+    
+    private void addEdge(Edge edge) {
+        long bytes = GraphFootprint.estimate(edge);
+        checkMemoryBudget(0, 1, bytes);
+        boolean added = this.graph.addEdge(edge.getSourceNode(), edge.getTargetNode(), edge);  
+        if (added) {
+            footprint.add(0, 1, bytes);
+            if (graphIndex != null) {
+                graphIndex.add(edge);
+            }
+        }
+        logEdge(edge, added);
     }
 
     @SuppressWarnings("rawtypes")
-    private void addProperties(IPropertyContainer node, JSONObject nodeJson) {
-        JSONObject properties = JsonResults.getJson(nodeJson, "properties");
+    private void addProperties(IPropertyContainer container, JSONObject properties) {
+        if (properties == null) {
+            return;
+        }
         Set keys = properties.keySet();
         for (Object keyObject : keys) {
             String key = (String) keyObject;
-            String value = (String) properties.get(key);
-            node.addProperty(key, value);
+            Object valueObject = properties.get(key);
+            if (valueObject == null) {
+                continue;
+            }
+            // the JSON value is kept with its type for GraphWriter
+            container.addProperty(key, valueObject);
             if (LOG.isDebugEnabled()) {
-                LOG.debug("Property added: " + key + ":" + value);
+                LOG.debug("Property added: " + key + ":" + valueObject);
             }
         }
     }
 
-    private void addLabels(Node node, JSONObject nodeJson) {
-        JSONArray labels = JsonResults.getJsonArray(nodeJson, "labels");
+    private void addLabels(Node node, JSONArray labels) {
+        if (labels == null) {
+            return;
+        }
         for (Object labelObject : labels) {
             String label = (String) labelObject;                
             node.addLabel(label);
@@ -176,6 +657,18 @@ public class CypherToJGraphT {
         }
     }
 
+    private void checkMemoryBudget(long nodes, long edges, long bytes) {
+        if (getMemoryBudget() != null) {
+            getMemoryBudget().check(footprint, nodes, edges, bytes);
+        }
+    }
+
+    private void checkDeadline() {
+        if (getDeadline() != null) {
+            getDeadline().check();
+        }
+    }
+
     private CypherToJson createCypherToJson() {
         CypherToJson executer = new CypherToJson();
         executer.setHost(getHost());
@@ -184,9 +677,40 @@ public class CypherToJGraphT {
         executer.setProtocol(getProtocol());
         executer.setQuery(getQuery());
         executer.setResultDataContents(CypherToJson.RESULT_DATA_CONTENT_GRAPH);
+        executer.setConnectTimeout(getConnectTimeout());
+        executer.setReadTimeout(getReadTimeout());
+        executer.setDeadline(getDeadline());
+        executer.setHedgePolicy(getHedgePolicy());
+        executer.setResponseByteCounter(getResponseByteCounter());
+        if (getMemoryBudget() != null) {
+            executer.setMaxResponseBytes(getMemoryBudget().getMaxResponseBytes());
+        }
         return executer;
     }
     
+    /**
+     * Freezes the loaded graph into an immutable, read optimized graph 
+     * which can be shared between threads. Afterwards the loader starts 
+     * with an empty graph, the next query does not change the frozen graph.
+     * A graph index stays with the frozen graph, the loader fills an empty 
+     * index with the same property keys.
+     * 
+     * @return The loaded graph as immutable graph
+     */
+    public FrozenGraph freeze() {
+        FrozenGraph frozenGraph = FrozenGraph.freeze(graph);
+        if (landmarkIndex == null && landmarkIndexFuture == null && landmarkGraph == graph) {
+            // a landmark index created later shares the arrays of the frozen graph
+            landmarkGraph = frozenGraph;
+        }
+        graph = new DirectedPseudograph<Node, Edge>(Edge.class);
+        footprint = new GraphFootprint();
+        if (graphIndex != null) {
+            graphIndex = graphIndex.createEmpty();
+        }
+        return frozenGraph;
+    }
+    
     /**
      * @return The result of a query as JGraphT graph
      */
@@ -253,4 +777,270 @@ public class CypherToJGraphT {
     public void setPath(String path) {
         this.path = path;
     }
+
+    public int getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * @param connectTimeout Connect timeout in milliseconds, 0 means no timeout
+     */
+    public void setConnectTimeout(int connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    public int getReadTimeout() {
+        return readTimeout;
+    }
+
+    /**
+     * @param readTimeout Read timeout in milliseconds, 0 means no timeout
+     */
+    public void setReadTimeout(int readTimeout) {
+        this.readTimeout = readTimeout;
+    }
+
+    public Deadline getDeadline() {
+        return deadline;
+    }
+
+    /**
+     * @param deadline A deadline for the next executions or null
+     */
+    public void setDeadline(Deadline deadline) {
+        this.deadline = deadline;
+    }
+
+    public HedgePolicy getHedgePolicy() {
+        return hedgePolicy;
+    }
+
+    /**
+     * @param hedgePolicy A hedge policy or null to send requests to one host only
+     */
+    public void setHedgePolicy(HedgePolicy hedgePolicy) {
+        this.hedgePolicy = hedgePolicy;
+    }
+
+    public AtomicLong getResponseByteCounter() {
+        return responseByteCounter;
+    }
+
+    /**
+     * @param responseByteCounter A counter of the bytes of all response bodies 
+     *  read from the server or null
+     */
+    public void setResponseByteCounter(AtomicLong responseByteCounter) {
+        this.responseByteCounter = responseByteCounter;
+    }
+
+    public MemoryBudget getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    /**
+     * @param memoryBudget Limits for the size of responses and of the graph or null
+     */
+    public void setMemoryBudget(MemoryBudget memoryBudget) {
+        this.memoryBudget = memoryBudget;
+    }
+
+    /**
+     * @return The number of nodes and edges and the estimated memory size of the graph
+     */
+    public GraphFootprint getFootprint() {
+        return footprint;
+    }
+
+    /**
+     * @return true if the last execution exceeded the memory budget and the graph is incomplete
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    /**
+     * Returns the landmark index of the graph of the last execution. The index 
+     * is created by the first call after an execution. If it is created in the 
+     * background after loading this call waits until it is finished.
+     * 
+     * @return The landmark index of the graph of the last execution or null 
+     *  if the number of landmarks is 0
+     */
+    public LandmarkIndex getLandmarkIndex() {
+        if (landmarkIndex == null && landmarkIndexFuture != null) {
+            try {
+                landmarkIndex = landmarkIndexFuture.join();
+            } catch (CompletionException e) {
+                landmarkIndexFuture = null;
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+            if (LOG.isInfoEnabled()) {
+                LOG.info("Landmark index created after loading, landmarks: " + landmarkIndex.getLandmarks());
+            }
+        }
+        if (landmarkIndex == null && landmarkGraph != null && getNumberOfLandmarks() > 0) {
+            landmarkIndex = LandmarkIndex.create(landmarkGraph, getNumberOfLandmarks());
+            if (LOG.isInfoEnabled()) {
+                LOG.info("Landmark index created, landmarks: " + landmarkIndex.getLandmarks());
+            }
+        }
+        return landmarkIndex;
+    }
+
+    public int getNumberOfLandmarks() {
+        return numberOfLandmarks;
+    }
+
+    /**
+     * @param numberOfLandmarks If greater than 0 getLandmarkIndex() creates 
+     *  a {@link LandmarkIndex} with this number of landmarks
+     */
+    public void setNumberOfLandmarks(int numberOfLandmarks) {
+        this.numberOfLandmarks = numberOfLandmarks;
+    }
+
+    public boolean isCreateLandmarkIndexAfterLoad() {
+        return createLandmarkIndexAfterLoad;
+    }
+
+    /**
+     * @param createLandmarkIndexAfterLoad If true the landmark index is created 
+     *  in the background right after a graph is loaded, getLandmarkIndex() waits 
+     *  for it. The index is created from the graph as it was after loading.
+     */
+    public void setCreateLandmarkIndexAfterLoad(boolean createLandmarkIndexAfterLoad) {
+        this.createLandmarkIndexAfterLoad = createLandmarkIndexAfterLoad;
+    }
+
+    public int getExpandBatchSize() {
+        return expandBatchSize;
+    }
+
+    /**
+     * @param expandBatchSize The maximum number of node ids in one expand query
+     */
+    public void setExpandBatchSize(int expandBatchSize) {
+        this.expandBatchSize = expandBatchSize;
+    }
+
+    public int getStreamBatchSize() {
+        return streamBatchSize;
+    }
+
+    /**
+     * @param streamBatchSize The number of events executeStreaming(..) requests at once
+     */
+    public void setStreamBatchSize(int streamBatchSize) {
+        this.streamBatchSize = streamBatchSize;
+    }
+
+    public GraphIndex getGraphIndex() {
+        return graphIndex;
+    }
+
+    /**
+     * @param graphIndex An index which is filled while a graph is loaded, null for no index
+     */
+    public void setGraphIndex(GraphIndex graphIndex) {
+        this.graphIndex = graphIndex;
+    }
+
+    public GraphStore getGraphStore() {
+        return graphStore;
+    }
+
+    /**
+     * @param graphStore A store which is shared by the results of all loads, 
+     *  null if loads add to one graph
+     */
+    public void setGraphStore(GraphStore graphStore) {
+        this.graphStore = graphStore;
+    }
+
+    /**
+     * Adds the published nodes and relationships to the graph.
+     * Requests events in batches.
+     */
+    private class GraphBuilder implements Flow.Subscriber<GraphEvent> {
+        
+        private final CountDownLatch finished = new CountDownLatch(1);
+        private Flow.Subscription subscription;
+        private int received = 0;
+        private volatile Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(getStreamBatchSize());
+        }
+
+        @Override
+        public void onNext(GraphEvent event) {
+            try {
+                if (event.getType() == GraphEvent.Type.NODE) {
+                    Node node = event.getNode();
+                    if (findNode(node.getId()) == null) {
+                        if (graph.containsVertex(node)) {
+                            putNode(node.getId(), getExistingNode(node));
+                        } else {
+                            Node pooledNode = (graphStore != null) ? graphStore.getNode(node.getId()) : null;
+                            addNode((pooledNode != null) ? pooledNode : node);
+                        }
+                    }
+                } else {
+                    Edge relation = event.getEdge();
+                    Edge edge = createEdge(relation.getId(), relation.getSourceNode().getId(), relation.getTargetNode().getId(), relation.getType());
+                    if (edge != null) {
+                        if (!isPooled(edge)) {
+                            for (Map.Entry<String, Object> property : relation.getPropertyValues().entrySet()) {
+                                edge.addProperty(property.getKey(), property.getValue());
+                            }
+                        }
+                        addEdge(edge);
+                    }
+                }
+            } catch (RuntimeException e) {
+                error = e;
+                subscription.cancel();
+                finished.countDown();
+                return;
+            }
+            received++;
+            if (received == getStreamBatchSize()) {
+                received = 0;
+                subscription.request(getStreamBatchSize());
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            finished.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            finished.countDown();
+        }
+        
+        void await() {
+            try {
+                finished.await();
+            } catch (InterruptedException e) {
+                subscription.cancel();
+                Thread.currentThread().interrupt();
+                throw new QueryCancelledException("Interrupted while loading graph", e);
+            }
+            if (error instanceof RuntimeException) {
+                throw (RuntimeException) error;
+            }
+            if (error != null) {
+                throw new RuntimeException("Error while loading graph", error);
+            }
+        }
+    }
 }
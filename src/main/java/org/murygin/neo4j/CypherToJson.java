@@ -19,6 +19,27 @@
  ******************************************************************************/
 package org.murygin.neo4j;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
 import javax.ws.rs.core.MediaType;
 
 import org.json.simple.JSONArray;
@@ -29,8 +50,12 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.sun.jersey.api.client.Client;
+import com.sun.jersey.api.client.ClientHandlerException;
+import com.sun.jersey.api.client.ClientRequest;
 import com.sun.jersey.api.client.ClientResponse;
 import com.sun.jersey.api.client.WebResource;
+import com.sun.jersey.api.client.filter.ClientFilter;
+import com.sun.jersey.client.urlconnection.URLConnectionClientHandler;
 
 /**
  * Executes a Cypher query on a Neo4j server and returns result as JSON string or 
@@ -44,9 +69,17 @@ import com.sun.jersey.api.client.WebResource;
  * String jsonString = executer.getJsonString();
  * org.json.simple.JSONObject json = executer.getJson();
  * 
+ * Large tabular results are read row by row with openCursor(..) or stream(..).
+ * Results which are too large for one response are read in pages 
+ * in a {@link Transaction}, see beginTransaction().
+ * 
  * To execute a query on Neo4j the REST api is used. REST calls a executed 
  * by Jersey client. JSON results are returned as json-simple objects.
  * 
+ * Set a {@link Deadline} to bound the execution time and to cancel a 
+ * running query. Set a {@link HedgePolicy} to send a duplicate request 
+ * to another host if the first host answers slowly.
+ * 
  * See: http://neo4j.com/
  * See: http://neo4j.com/docs/stable/cypher-query-lang.html
  * See: https://jersey.java.net/
@@ -65,21 +98,40 @@ public class CypherToJson {
     public static String DEFAULT_HOST = "localhost";
     public static String DEFAULT_PORT = "7474";
     public static String DEFAULT_PATH = "/db/data/transaction/commit";
+    public static String DEFAULT_TRANSACTION_PATH = "/db/data/transaction";
     public static String DEFAULT_QUERY = "MATCH n-[r]-() RETURN n,r";
     
     public static String RESULT_DATA_CONTENT_REST = "REST";
     public static String RESULT_DATA_CONTENT_ROW = "row";
     public static String RESULT_DATA_CONTENT_GRAPH = "graph";
     public static String[] DEFAULT_RESULT_DATA_CONTENTS = {RESULT_DATA_CONTENT_ROW,RESULT_DATA_CONTENT_GRAPH};
+    
+    // Timeouts in milliseconds, 0 means no timeout
+    public static int DEFAULT_CONNECT_TIMEOUT = 10000;
+    public static int DEFAULT_READ_TIMEOUT = 0;
+    
+    // Interval in which a waiting thread checks if the deadline is cancelled
+    private static final long CANCEL_POLL_INTERVAL = 50;
+    
+    private static final ExecutorService REQUEST_EXECUTOR = Executors.newCachedThreadPool(new RequestThreadFactory());
 
     public String protocol = DEFAULT_PROTOCOL;
     public String host = DEFAULT_HOST;
     public String port = DEFAULT_PORT;
     public String path = DEFAULT_PATH;
+    public String transactionPath = DEFAULT_TRANSACTION_PATH;
 
     public String query = DEFAULT_QUERY;
+    public Map<String, Object> parameters;
     public String[] resultDataContents = DEFAULT_RESULT_DATA_CONTENTS;
     
+    private int connectTimeout = DEFAULT_CONNECT_TIMEOUT;
+    private int readTimeout = DEFAULT_READ_TIMEOUT;
+    private Deadline deadline;
+    private HedgePolicy hedgePolicy;
+    private long maxResponseBytes = 0;
+    private AtomicLong responseByteCounter;
+    
     private String jsonString;
     private JSONObject json;
 
@@ -95,11 +147,117 @@ public class CypherToJson {
      * @return The result of the query as simple-json object
      */
     public JSONObject execute(String query) {
+        return execute(query, null);
+    }
+
+    /**
+     * Executes a Cypher query with parameters.
+     * 
+     * @param query a Cypher query
+     * @param parameters Parameters of the query or null
+     * @return The result of the query as simple-json object
+     */
+    public JSONObject execute(String query, Map<String, Object> parameters) {
         setQuery(query);
+        setParameters(parameters);
         execute();
         return getJson();
     }
 
+
+    /**
+     * Begins a transaction. Use the transaction to execute several queries 
+     * or to read a large result in pages. Commit or close the transaction 
+     * when you are done, close() rolls back an open transaction.
+     * 
+     * @return A new open transaction
+     */
+    public Transaction beginTransaction() {
+        Transaction transaction = new Transaction(this);
+        transaction.begin();
+        return transaction;
+    }
+
+    /**
+     * Executes a Cypher query and returns a cursor over the rows of the result.
+     * Rows are decoded one at a time while the response is read. Close the 
+     * cursor if it is not read to the end.
+     * 
+     * @param query a Cypher query
+     * @return A cursor over the rows of the result
+     */
+    public RowCursor openCursor(String query) {
+        setQuery(query);
+        return openCursor(createUri(getHost()), createJsonString(getQuery(), null, RESULT_DATA_CONTENT_ROW));
+    }
+
+    RowCursor openCursor(String uri, String requestJson) {
+        return new RowCursor(openResultReader(uri, requestJson), getDeadline());
+    }
+    
+    /**
+     * Posts a request and returns a reader of the response. If a deadline 
+     * is set, it aborts the request and a read which waits for data.
+     */
+    ResultReader openResultReader(String uri, String requestJson) {
+        return openResultReader(uri, requestJson, getDeadline());
+    }
+    
+    /**
+     * Posts a request and returns a reader of the response which is bounded 
+     * by the given deadline instead of the deadline of this executer.
+     */
+    ResultReader openResultReader(String uri, String requestJson, Deadline currentDeadline) {
+        AbortableClient client = createClient(currentDeadline);
+        if (currentDeadline == null) {
+            ClientResponse response = post(client, uri, requestJson);
+            return new ResultReader(response.getEntityInputStream(), () -> {
+                response.close();
+                client.destroy();
+            });
+        }
+        Deadline.Registration registration = currentDeadline.onAbort(client::abort);
+        try {
+            ClientResponse response = post(client, uri, requestJson);
+            // a blocked read of the response is only stopped by a stream read in the background 
+            AbortableInputStream in = new AbortableInputStream(response.getEntityInputStream(), () -> {
+                response.close();
+                client.destroy();
+            }, REQUEST_EXECUTOR);
+            Deadline.Registration streamRegistration = currentDeadline.onAbort(in::abort);
+            return new ResultReader(in, streamRegistration::close, currentDeadline);
+        } catch (RuntimeException e) {
+            client.abort();
+            throw currentDeadline.toCancelledException(e);
+        } finally {
+            registration.close();
+        }
+    }
+    
+    /**
+     * Returns a publisher of the nodes and relationships of the result 
+     * of a Cypher query. The query is executed when a subscriber requests
+     * the first events.
+     * 
+     * @param query A Cypher query
+     * @return A publisher of the nodes and relationships of the result
+     */
+    public GraphEventPublisher publish(String query) {
+        setQuery(query);
+        return new GraphEventPublisher(this, createUri(getHost()), createJsonString(getQuery(), null, RESULT_DATA_CONTENT_GRAPH));
+    }
+
+    /**
+     * Executes a Cypher query and returns a stream of the rows of the result.
+     * The stream runs in constant memory. Close the stream if it 
+     * is not consumed completely.
+     * 
+     * @param query a Cypher query
+     * @return A stream of the rows of the result
+     */
+    public Stream<Row> stream(String query) {
+        return openCursor(query).stream();
+    }
     
     /**
      * Executes a Cypher query.
@@ -107,12 +265,11 @@ public class CypherToJson {
      * Call getJsonString() or getJson() to return the result.
      */
     public void execute() {
-        ClientResponse response = excecuteRequest();
-        setJsonString(response.getEntity(String.class));     
-        response.close();
+        setJsonString(requestJsonString());
         if (LOG.isDebugEnabled()) {
             LOG.debug(getJsonString());
-        }      
+        }
+        checkDeadline();
         JSONParser parser = new JSONParser();
         try {
             setJson((JSONObject) parser.parse(getJsonString()));
@@ -121,20 +278,353 @@ public class CypherToJson {
         }
     }
 
-    private ClientResponse excecuteRequest() {
-        Client client = Client.create();
-        WebResource webResource = client.resource(createUri());
-        String request = createJsonString();
+    private String requestJsonString() {
+        if (getDeadline() == null && getHedgePolicy() == null) {
+            return new Request(getHost(), createJsonString()).call();
+        }
+        return requestAsync();
+    }
+
+    /**
+     * Sends the request in a background thread and waits for the response
+     * until the deadline is exceeded. If a hedge policy is set, duplicate 
+     * requests are sent to the hedge hosts after the delay of the policy. 
+     * The first successful response is returned, all other requests are cancelled.
+     */
+    private String requestAsync() {
+        Deadline currentDeadline = (getDeadline() != null) ? getDeadline() : Deadline.none();
+        List<String> hosts = new LinkedList<String>();
+        hosts.add(getHost());
+        if (getHedgePolicy() != null) {
+            hosts.addAll(getHedgePolicy().getHosts());
+        }
+        String requestJson = createJsonString();
+        ExecutorCompletionService<String> completionService = new ExecutorCompletionService<String>(REQUEST_EXECUTOR);
+        List<Request> requests = new LinkedList<Request>();
+        Future<String> winner = null;
+        try {
+            int running = 0;
+            long nextHedgeTime = Long.MAX_VALUE;
+            RuntimeException lastError = null;
+            while (true) {
+                boolean hedgeDue = System.currentTimeMillis() >= nextHedgeTime;
+                if ((running == 0 || hedgeDue) && requests.size() < hosts.size()) {
+                    Request request = new Request(hosts.get(requests.size()), requestJson);
+                    request.setDeadline(currentDeadline);
+                    request.submit(completionService);
+                    requests.add(request);
+                    running++;
+                    nextHedgeTime = (getHedgePolicy() != null) 
+                            ? System.currentTimeMillis() + getHedgePolicy().getDelay() : Long.MAX_VALUE;
+                    if (requests.size() > 1 && LOG.isInfoEnabled()) {
+                        LOG.info("Hedged request sent to host: " + request.getHost());
+                    }
+                } else if (running == 0) {
+                    throw lastError;
+                }
+                currentDeadline.check();
+                long wait = Math.min(CANCEL_POLL_INTERVAL, currentDeadline.getRemainingMillis());
+                if (nextHedgeTime != Long.MAX_VALUE && requests.size() < hosts.size()) {
+                    wait = Math.min(wait, Math.max(0, nextHedgeTime - System.currentTimeMillis()));
+                }
+                Future<String> done = completionService.poll(wait, TimeUnit.MILLISECONDS);
+                if (done != null) {
+                    running--;
+                    try {
+                        String result = done.get();
+                        winner = done;
+                        return result;
+                    } catch (ExecutionException e) {
+                        if (e.getCause() instanceof MemoryBudgetExceededException) {
+                            // other hosts return the same response
+                            throw (MemoryBudgetExceededException) e.getCause();
+                        }
+                        lastError = toRuntimeException(e.getCause());
+                        LOG.warn("Request failed: " + lastError.getMessage());
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new QueryCancelledException("Interrupted while waiting for response", e);
+        } finally {
+            recordLatency(requests, winner);
+            for (Request request : requests) {
+                request.cancel();
+            }
+        }
+    }
+
+    /**
+     * Records the latency of the primary request also if it lost or is 
+     * cancelled, its elapsed time is a lower bound of the latency. If only 
+     * the winners were recorded, slow primary requests would be missing 
+     * and the hedge delay would be too short.
+     */
+    private void recordLatency(List<Request> requests, Future<String> winner) {
+        if (getHedgePolicy() == null || requests.isEmpty()) {
+            return;
+        }
+        for (Request request : requests) {
+            if (request == requests.get(0) || request.getFuture() == winner) {
+                long latency = request.getLatency();
+                if (latency >= 0) {
+                    getHedgePolicy().recordLatency(latency);
+                }
+            }
+        }
+    }
+
+    private static RuntimeException toRuntimeException(Throwable t) {
+        if (t instanceof RuntimeException) {
+            return (RuntimeException) t;
+        }
+        return new RuntimeException(t);
+    }
+
+    private void checkDeadline() {
+        if (getDeadline() != null) {
+            getDeadline().check();
+        }
+    }
+
+    /**
+     * Reads the entity of a response as string. Throws a 
+     * {@link MemoryBudgetExceededException} if the response is 
+     * larger than the maximum response size.
+     */
+    String readEntity(ClientResponse response) {
+        long maxBytes = getMaxResponseBytes();
+        if (maxBytes <= 0) {
+            return response.getEntity(String.class);
+        }
+        if (response.getLength() > maxBytes) {
+            throw new MemoryBudgetExceededException("Response size " + response.getLength() + " exceeds maximum: " + maxBytes + " bytes");
+        }
+        try (InputStream in = response.getEntityInputStream()) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream((response.getLength() > 0) ? response.getLength() : 8192);
+            byte[] buffer = new byte[8192];
+            long total = 0;
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                total += read;
+                if (total > maxBytes) {
+                    throw new MemoryBudgetExceededException("Response exceeds maximum size: " + maxBytes + " bytes");
+                }
+                out.write(buffer, 0, read);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new RuntimeException("Error while reading response", e);
+        }
+    }
+
+    ClientResponse post(Client client, String uri, String requestJson) {
+        WebResource webResource = client.resource(uri);
         ClientResponse response = webResource
                 .accept(MediaType.APPLICATION_JSON)
                 .type( MediaType.APPLICATION_JSON )
-                .post(ClientResponse.class, request);
-        if (response.getStatus() != 200) {
+                .post(ClientResponse.class, requestJson);
+        if (response.getStatus() != 200 && response.getStatus() != 201) {
+            response.close();
             throw new RuntimeException("Failed : HTTP error code : " + response.getStatus());
         }
         return response;
     }
 
+    AbortableClient createClient(Deadline requestDeadline) {
+        AbortableClient client = new AbortableClient();
+        client.setConnectTimeout(limitTimeout(getConnectTimeout(), requestDeadline));
+        client.setReadTimeout(limitTimeout(getReadTimeout(), requestDeadline));
+        if (getResponseByteCounter() != null) {
+            client.addFilter(new ByteCountingFilter(getResponseByteCounter()));
+        }
+        return client;
+    }
+
+    private static int limitTimeout(int timeout, Deadline requestDeadline) {
+        if (requestDeadline == null || requestDeadline.getRemainingMillis() == Long.MAX_VALUE) {
+            return timeout;
+        }
+        // the deadline is exceeded, let the request fail fast 
+        long remaining = Math.max(1, requestDeadline.getRemainingMillis());
+        if (timeout > 0 && timeout < remaining) {
+            return timeout;
+        }
+        return (int) Math.min(remaining, Integer.MAX_VALUE);
+    }
+
+    /**
+     * A Jersey client which keeps its connections. abort() disconnects them, 
+     * a request which waits for the response fails. Destroying a client 
+     * does not stop a waiting request. A read which is blocked in the body 
+     * of a chunked response is not stopped either, see {@link AbortableInputStream}.
+     */
+    static class AbortableClient extends Client {
+
+        private final List<HttpURLConnection> connections;
+        private volatile boolean aborted = false;
+
+        AbortableClient() {
+            this(new CopyOnWriteArrayList<HttpURLConnection>());
+        }
+
+        private AbortableClient(List<HttpURLConnection> connections) {
+            super(new URLConnectionClientHandler(url -> {
+                HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+                connections.add(connection);
+                return connection;
+            }));
+            this.connections = connections;
+        }
+
+        /**
+         * Disconnects all connections of this client and destroys it in 
+         * the background. Can be called from any thread, does not block.
+         */
+        public void abort() {
+            if (aborted) {
+                return;
+            }
+            aborted = true;
+            REQUEST_EXECUTOR.execute(() -> {
+                // waits for a read of the body which is blocked in another thread 
+                for (HttpURLConnection connection : connections) {
+                    connection.disconnect();
+                }
+                destroy();
+            });
+        }
+
+        public boolean isAborted() {
+            return aborted;
+        }
+    }
+
+    /**
+     * A single HTTP request to one host. The request is cancelled
+     * by aborting its client.
+     */
+    private class Request implements Callable<String> {
+
+        private String host;
+        private String requestJson;
+        private Deadline requestDeadline;
+        private volatile AbortableClient client;
+        private volatile boolean cancelled = false;
+        private Future<String> future;
+        private volatile long startTime = 0;
+        private volatile long duration = -1;
+        private volatile boolean failed = false;
+
+        public Request(String host, String requestJson) {
+            super();
+            this.host = host;
+            this.requestJson = requestJson;
+        }
+
+        @Override
+        public String call() {
+            startTime = System.currentTimeMillis();
+            client = createClient(requestDeadline);
+            if (cancelled) {
+                failed = true;
+                client.destroy();
+                throw new QueryCancelledException("Request cancelled: " + host);
+            }
+            try {
+                ClientResponse response = post(client, createUri(host), requestJson);
+                try {
+                    String result = readEntity(response);
+                    duration = System.currentTimeMillis() - startTime;
+                    return result;
+                } finally {
+                    response.close();
+                }
+            } catch (RuntimeException e) {
+                failed = true;
+                throw e;
+            } finally {
+                client.destroy();
+            }
+        }
+
+        public void submit(ExecutorCompletionService<String> completionService) {
+            future = completionService.submit(this);
+        }
+
+        public void cancel() {
+            cancelled = true;
+            if (future != null && !future.isDone()) {
+                future.cancel(true);
+            }
+            AbortableClient currentClient = client;
+            if (currentClient != null) {
+                currentClient.abort();
+            }
+        }
+
+        public void setDeadline(Deadline requestDeadline) {
+            this.requestDeadline = requestDeadline;
+        }
+
+        public String getHost() {
+            return host;
+        }
+
+        public Future<String> getFuture() {
+            return future;
+        }
+
+        /**
+         * @return The duration of a successful request, the elapsed time 
+         *  of a running request or -1 if the request failed or is not started
+         */
+        public long getLatency() {
+            if (duration >= 0) {
+                return duration;
+            }
+            if (failed || startTime == 0) {
+                return -1;
+            }
+            return System.currentTimeMillis() - startTime;
+        }
+    }
+
+    /**
+     * Counts the bytes of the response bodies as they are read from the connection.
+     */
+    private static class ByteCountingFilter extends ClientFilter {
+
+        private final AtomicLong counter;
+
+        public ByteCountingFilter(AtomicLong counter) {
+            super();
+            this.counter = counter;
+        }
+
+        @Override
+        public ClientResponse handle(ClientRequest request) throws ClientHandlerException {
+            ClientResponse response = getNext().handle(request);
+            if (response.getEntityInputStream() != null) {
+                response.setEntityInputStream(new CountingInputStream(response.getEntityInputStream(), counter));
+            }
+            return response;
+        }
+    }
+
+    private static class RequestThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger number = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "neo4j-request-" + number.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
     /**
      * Creates a JSON string with the cypher query:
      * 
@@ -147,12 +637,19 @@ public class CypherToJson {
      * 
      * @return JSON string with cypher query
      */
-    @SuppressWarnings("unchecked")
     private String createJsonString() {
+        return createJsonString(getQuery(), getParameters(), getResultDataContents());
+    }
+
+    @SuppressWarnings("unchecked")
+    String createJsonString(String query, Map<String, Object> parameters, String... contents) {
         JSONObject statement = new JSONObject();
-        statement.put("statement", getQuery());
+        statement.put("statement", query);
+        if (parameters != null) {
+            statement.put("parameters", parameters);
+        }
         JSONArray resultDataContents = new JSONArray();
-        for (String content : getResultDataContents()) {
+        for (String content : contents) {
             resultDataContents.add(content);
         }       
         statement.put("resultDataContents", resultDataContents);
@@ -175,6 +672,14 @@ public class CypherToJson {
         this.query = query;
     }
 
+    public Map<String, Object> getParameters() {
+        return parameters;
+    }
+
+    public void setParameters(Map<String, Object> parameters) {
+        this.parameters = parameters;
+    }
+
     public String[] getResultDataContents() {
         return resultDataContents;
     }
@@ -206,11 +711,18 @@ public class CypherToJson {
         this.json = json;
     }
 
-    private String createUri() {
+    private String createUri(String host) {
+        return createUri(host, getPath());
+    }
+
+    String createUri(String host, String path) {
         StringBuilder sb = new StringBuilder();
         sb.append(getProtocol()).append("://");
-        sb.append(getHost()).append(":").append(getPort());
-        sb.append(getPath());
+        sb.append(host);
+        if (!hasPort(host)) {
+            sb.append(":").append(getPort());
+        }
+        sb.append(path);
         String uri = sb.toString();
         if (LOG.isDebugEnabled()) {
             LOG.debug("URI: " + uri);
@@ -218,6 +730,13 @@ public class CypherToJson {
         return uri;
     }
 
+    /**
+     * @return true if the host contains a port: host:port or [ipv6]:port
+     */
+    private static boolean hasPort(String host) {
+        return host.lastIndexOf(':') > host.lastIndexOf(']');
+    }
+
     public String getProtocol() {
         return protocol;
     }
@@ -249,4 +768,81 @@ public class CypherToJson {
     public void setPath(String rootPath) {
         this.path = rootPath;
     }
+
+    public String getTransactionPath() {
+        return transactionPath;
+    }
+
+    public void setTransactionPath(String transactionPath) {
+        this.transactionPath = transactionPath;
+    }
+
+    public int getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * @param connectTimeout Connect timeout in milliseconds, 0 means no timeout
+     */
+    public void setConnectTimeout(int connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    public int getReadTimeout() {
+        return readTimeout;
+    }
+
+    /**
+     * @param readTimeout Read timeout in milliseconds, 0 means no timeout
+     */
+    public void setReadTimeout(int readTimeout) {
+        this.readTimeout = readTimeout;
+    }
+
+    public Deadline getDeadline() {
+        return deadline;
+    }
+
+    /**
+     * @param deadline A deadline for the next executions or null
+     */
+    public void setDeadline(Deadline deadline) {
+        this.deadline = deadline;
+    }
+
+    public long getMaxResponseBytes() {
+        return maxResponseBytes;
+    }
+
+    /**
+     * @param maxResponseBytes The maximum size of a buffered response in bytes 
+     *  as read from the connection, 0 means no limit. The string and the 
+     *  parsed JSON of the response take a multiple of this size on the heap.
+     */
+    public void setMaxResponseBytes(long maxResponseBytes) {
+        this.maxResponseBytes = maxResponseBytes;
+    }
+
+    public HedgePolicy getHedgePolicy() {
+        return hedgePolicy;
+    }
+
+    /**
+     * @param hedgePolicy A hedge policy or null to send requests to one host only
+     */
+    public void setHedgePolicy(HedgePolicy hedgePolicy) {
+        this.hedgePolicy = hedgePolicy;
+    }
+
+    public AtomicLong getResponseByteCounter() {
+        return responseByteCounter;
+    }
+
+    /**
+     * @param responseByteCounter A counter of the bytes of all response bodies 
+     *  read from the server or null
+     */
+    public void setResponseByteCounter(AtomicLong responseByteCounter) {
+        this.responseByteCounter = responseByteCounter;
+    }
 }
@@ -0,0 +1,191 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j;
+
+import java.net.SocketTimeoutException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A deadline for one execution of a Cypher query. A deadline 
+ * bounds the HTTP request as well as the conversion of the result. 
+ * It can also be cancelled from another thread. Long running 
+ * operations call check() from time to time and stop with a 
+ * {@link QueryCancelledException} once the deadline is expired 
+ * or cancelled. Operations which block in a read register an abort action,
+ * which runs when the deadline is cancelled or expires.
+ * 
+ * Getting started:
+ * 
+ * Deadline deadline = Deadline.after(2, TimeUnit.SECONDS);
+ * graphLoader.setDeadline(deadline);
+ * DirectedGraph graph = graphLoader.execute("MATCH n-[r]-() RETURN n,r");
+ */
+public class Deadline {
+
+    private static final String MESSAGE_CANCELLED = "Query execution was cancelled";
+    private static final String MESSAGE_EXPIRED = "Deadline of query execution exceeded";
+    
+    private static final ScheduledThreadPoolExecutor TIMER = createTimer();
+    
+    private final long expiresAt;
+    private final boolean expiring;
+    private volatile boolean cancelled = false;
+    private final List<Runnable> abortActions = new CopyOnWriteArrayList<Runnable>();
+    
+    private Deadline(long expiresAt, boolean expiring) {
+        super();
+        this.expiresAt = expiresAt;
+        this.expiring = expiring;
+    }
+    
+    /**
+     * @param timeout The maximum duration of the execution
+     * @param unit The time unit of the timeout
+     * @return A deadline which expires after the timeout
+     */
+    public static Deadline after(long timeout, TimeUnit unit) {
+        return new Deadline(System.nanoTime() + unit.toNanos(timeout), true);
+    }
+    
+    /**
+     * @return A deadline which never expires but can be cancelled
+     */
+    public static Deadline none() {
+        return new Deadline(0, false);
+    }
+    
+    /**
+     * Cancels the execution. Threads waiting for a response
+     * and threads converting a result stop as soon as possible. 
+     */
+    public void cancel() {
+        cancelled = true;
+        for (Runnable action : abortActions) {
+            action.run();
+        }
+    }
+    
+    /**
+     * Registers an action which aborts a blocking operation, for example by 
+     * closing its connection. The action runs when the deadline is cancelled 
+     * or expires, it may run more than once.
+     * 
+     * @param action An action which aborts an operation
+     * @return A registration, close it when the operation is finished
+     */
+    public Registration onAbort(Runnable action) {
+        abortActions.add(action);
+        ScheduledFuture<?> timer = expiring ? TIMER.schedule(action, expiresAt - System.nanoTime(), TimeUnit.NANOSECONDS) : null;
+        if (cancelled) {
+            action.run();
+        }
+        return () -> {
+            abortActions.remove(action);
+            if (timer != null) {
+                timer.cancel(false);
+            }
+        };
+    }
+    
+    /**
+     * Returns a {@link QueryCancelledException} if a failure was caused by 
+     * this deadline: The deadline is cancelled or expired or a read timed out 
+     * while the read timeout is limited by this expiring deadline.
+     * 
+     * @param failure A failure of an operation bounded by this deadline
+     * @return A QueryCancelledException or the failure
+     */
+    public RuntimeException toCancelledException(RuntimeException failure) {
+        if (failure instanceof QueryCancelledException) {
+            return failure;
+        }
+        if (isCancelled()) {
+            return new QueryCancelledException(MESSAGE_CANCELLED, failure);
+        }
+        if (isExpired() || (expiring && isTimeout(failure))) {
+            return new QueryCancelledException(MESSAGE_EXPIRED, failure);
+        }
+        return failure;
+    }
+    
+    private static boolean isTimeout(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SocketTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    public boolean isCancelled() {
+        return cancelled;
+    }
+    
+    public boolean isExpired() {
+        return expiring && System.nanoTime() - expiresAt >= 0;
+    }
+    
+    /**
+     * @return The remaining time in milliseconds, Long.MAX_VALUE if the deadline never expires
+     */
+    public long getRemainingMillis() {
+        if (!expiring) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(expiresAt - System.nanoTime()));
+    }
+    
+    /**
+     * Throws a {@link QueryCancelledException} if the deadline 
+     * is cancelled or expired.
+     */
+    public void check() {
+        if (isCancelled()) {
+            throw new QueryCancelledException(MESSAGE_CANCELLED);
+        }
+        if (isExpired()) {
+            throw new QueryCancelledException(MESSAGE_EXPIRED);
+        }
+    }
+    
+    private static ScheduledThreadPoolExecutor createTimer() {
+        ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "neo4j-deadline");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // finished operations cancel their timers, do not keep them until they are due
+        timer.setRemoveOnCancelPolicy(true);
+        return timer;
+    }
+    
+    /**
+     * The registration of an abort action.
+     */
+    public interface Registration extends AutoCloseable {
+        
+        /**
+         * Removes the abort action, it does not run anymore.
+         */
+        @Override
+        void close();
+    }
+}
@@ -19,29 +19,45 @@
  ******************************************************************************/
 package org.murygin.neo4j;
 
-import java.util.Map;
 
 /**
  * Data model class - An edge is the JGraphT generic edge type 
  * of the cypher query result graph. It contains all data from 
  * a Neo4j edge/relation. 
  * 
+ * The identity of an edge is the id of the Neo4j relationship. 
+ * Two relationships of the same type between the same nodes are 
+ * different edges. Edges created without an id are identified by
+ * source node, target node and type.
+ * 
  * @author Daniel Murygin daniel.murygin@gmail.com
  */
-public class Edge implements IPropertyContainer {
+public class Edge extends PropertyContainer {
     
+    private String id;
     private Node sourceNode;
     private Node targetNode; 
     private String type;
-    private Map<String, String> properties;
     
     public Edge(Node sourceNode, Node targetNode, String type) {
+        this(null, sourceNode, targetNode, type);
+    }
+    
+    public Edge(String id, Node sourceNode, Node targetNode, String type) {
         super();
+        this.id = id;
         this.sourceNode = sourceNode;
         this.targetNode = targetNode;
         this.type = type;
     }
     
+    public String getId() {
+        return id;
+    }
+    public void setId(String id) {
+        this.id = id;
+    }
+    
     public Node getSourceNode() {
         return sourceNode;
     }
@@ -62,19 +78,12 @@ public class Edge implements IPropertyContainer {
     public void setType(String type) {
         this.type = type;
     }
-    
-    public void addProperty(String key, String value) {
-        properties.put(key, value);
-    }
-    public Map<String, String> getProperties() {
-        return properties;
-    }
-    public void setProperties(Map<String, String> properties) {
-        this.properties = properties;
-    }
 
     @Override
     public int hashCode() {
+        if (id != null) {
+            return id.hashCode();
+        }
         final int prime = 31;
         int result = 1;
         result = prime * result + ((sourceNode == null) ? 0 : sourceNode.hashCode());
@@ -92,6 +101,9 @@ public class Edge implements IPropertyContainer {
         if (getClass() != obj.getClass())
             return false;
         Edge other = (Edge) obj;
+        if (id != null || other.id != null) {
+            return id != null && id.equals(other.id);
+        }
         if (sourceNode == null) {
             if (other.sourceNode != null)
                 return false;
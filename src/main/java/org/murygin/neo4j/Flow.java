@@ -0,0 +1,82 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j;
+
+/**
+ * Interfaces of a publisher and subscriber with backpressure. They have 
+ * the same methods and rules as java.util.concurrent.Flow of Java 9 and 
+ * the Reactive Streams specification (http://www.reactive-streams.org/). 
+ * A subscriber receives no more elements than it requested with 
+ * Subscription.request(..).
+ */
+public final class Flow {
+
+    private Flow() {
+        super();
+    }
+    
+    /**
+     * A producer of elements which are received by subscribers.
+     */
+    public interface Publisher<T> {
+        
+        /**
+         * Adds a subscriber. Subscriber.onSubscribe(..) is called with a new 
+         * subscription before any other method of the subscriber is called.
+         */
+        void subscribe(Subscriber<? super T> subscriber);
+    }
+    
+    /**
+     * A receiver of elements. The methods are called one after another, 
+     * never concurrently.
+     */
+    public interface Subscriber<T> {
+        
+        void onSubscribe(Subscription subscription);
+        
+        void onNext(T item);
+        
+        /**
+         * Called if an error occurs, no other method is called afterwards.
+         */
+        void onError(Throwable throwable);
+        
+        /**
+         * Called after the last element, no other method is called afterwards.
+         */
+        void onComplete();
+    }
+    
+    /**
+     * Links a publisher and a subscriber.
+     */
+    public interface Subscription {
+        
+        /**
+         * Adds n elements to the demand of the subscriber.
+         * 
+         * @param n A positive number, Long.MAX_VALUE for unbounded demand
+         */
+        void request(long n);
+        
+        /**
+         * Stops the delivery of elements, the publisher releases its resources.
+         */
+        void cancel();
+    }
+}
@@ -0,0 +1,382 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.jgrapht.DirectedGraph;
+import org.jgrapht.EdgeFactory;
+import org.jgrapht.graph.AbstractGraph;
+import org.jgrapht.util.ArrayUnenforcedSet;
+import org.murygin.neo4j.alg.IndexedGraph;
+
+/**
+ * An immutable, read optimized copy of a graph. The graph is a view on an 
+ * {@link IndexedGraph}: Nodes are numbered from 0 to n-1 and edges are stored 
+ * in arrays sorted by source and target node. Degrees are array lookups and 
+ * a single edge between two nodes is found by binary search. Edge sets are 
+ * views on the arrays and are not copied. Algorithms use the int indexed 
+ * snapshot of getIndexedGraph() directly.
+ * 
+ * All methods which change the graph throw an UnsupportedOperationException.
+ * A frozen graph can be shared between threads without synchronization.
+ * 
+ * Getting started:
+ * 
+ * graphLoader.execute("MATCH n-[r]-() RETURN n,r");
+ * FrozenGraph graph = graphLoader.freeze();
+ */
+public class FrozenGraph extends AbstractGraph<Node, Edge> implements DirectedGraph<Node, Edge> {
+
+    private static final String MESSAGE_FROZEN = "Graph is frozen";
+    
+    private final EdgeFactory<Node, Edge> edgeFactory;
+    private final IndexedGraph indexedGraph;
+    
+    private final Set<Node> vertexSet;
+    private final Set<Edge> edgeSet;
+    
+    private FrozenGraph(DirectedGraph<Node, Edge> graph) {
+        super();
+        edgeFactory = graph.getEdgeFactory();
+        indexedGraph = IndexedGraph.create(graph);
+        vertexSet = new NodeSet();
+        edgeSet = new OutEdgeSet(0, indexedGraph.getNumberOfEdges());
+    }
+    
+    /**
+     * Creates an immutable copy of a graph. The nodes and edges 
+     * are not copied, they are shared by both graphs.
+     * 
+     * @param graph A graph
+     * @return An immutable copy of the graph
+     */
+    public static FrozenGraph freeze(DirectedGraph<Node, Edge> graph) {
+        if (graph instanceof FrozenGraph) {
+            return (FrozenGraph) graph;
+        }
+        return new FrozenGraph(graph);
+    }
+    
+    /**
+     * @return The int indexed snapshot this graph is a view on
+     */
+    public IndexedGraph getIndexedGraph() {
+        return indexedGraph;
+    }
+    
+    public int getNumberOfNodes() {
+        return indexedGraph.getNumberOfNodes();
+    }
+    
+    public int getNumberOfEdges() {
+        return indexedGraph.getNumberOfEdges();
+    }
+    
+    public Node getNode(int index) {
+        return indexedGraph.getNode(index);
+    }
+    
+    /**
+     * @param node A node
+     * @return The index of the node or -1 if the node is not part of the graph
+     */
+    public int getIndex(Node node) {
+        return indexedGraph.getIndex(node);
+    }
+    
+    private int checkNode(Node node) {
+        int index = indexedGraph.getIndex(node);
+        if (index < 0) {
+            throw new IllegalArgumentException("No such vertex in graph: " + node);
+        }
+        return index;
+    }
+    
+    private int checkEdge(Edge edge) {
+        int slot = indexedGraph.getSlot(edge);
+        if (slot < 0) {
+            throw new IllegalArgumentException("No such edge in graph: " + edge);
+        }
+        return slot;
+    }
+
+    @Override
+    public Set<Edge> getAllEdges(Node sourceVertex, Node targetVertex) {
+        int source = indexedGraph.getIndex(sourceVertex);
+        int target = indexedGraph.getIndex(targetVertex);
+        if (source < 0 || target < 0) {
+            return null;
+        }
+        int start = indexedGraph.findSlot(source, target);
+        if (start < 0) {
+            return Collections.emptySet();
+        }
+        int end = start;
+        while (end < indexedGraph.getOutEnd(source) && indexedGraph.getOutTarget(end) == target) {
+            end++;
+        }
+        return new OutEdgeSet(start, end);
+    }
+
+    @Override
+    public Edge getEdge(Node sourceVertex, Node targetVertex) {
+        int source = indexedGraph.getIndex(sourceVertex);
+        int target = indexedGraph.getIndex(targetVertex);
+        if (source < 0 || target < 0) {
+            return null;
+        }
+        int slot = indexedGraph.findSlot(source, target);
+        return (slot < 0) ? null : indexedGraph.getOutEdge(slot);
+    }
+
+    @Override
+    public EdgeFactory<Node, Edge> getEdgeFactory() {
+        return edgeFactory;
+    }
+
+    @Override
+    public boolean containsEdge(Edge edge) {
+        return indexedGraph.getSlot(edge) >= 0;
+    }
+
+    @Override
+    public boolean containsVertex(Node node) {
+        return indexedGraph.getIndex(node) >= 0;
+    }
+
+    @Override
+    public Set<Edge> edgeSet() {
+        return edgeSet;
+    }
+
+    @Override
+    public Set<Edge> edgesOf(Node vertex) {
+        int node = checkNode(vertex);
+        List<Edge> edgeList = new ArrayList<Edge>(indexedGraph.getInDegree(node) + indexedGraph.getOutDegree(node));
+        for (int slot = indexedGraph.getOutStart(node); slot < indexedGraph.getOutEnd(node); slot++) {
+            edgeList.add(indexedGraph.getOutEdge(slot));
+        }
+        for (int slot = indexedGraph.getInStart(node); slot < indexedGraph.getInEnd(node); slot++) {
+            // loops are already added as outgoing edges
+            if (indexedGraph.getInSource(slot) != node) {
+                edgeList.add(indexedGraph.getInEdge(slot));
+            }
+        }
+        return Collections.unmodifiableSet(new ArrayUnenforcedSet<Edge>(edgeList));
+    }
+
+    @Override
+    public Set<Node> vertexSet() {
+        return vertexSet;
+    }
+
+    @Override
+    public Node getEdgeSource(Edge edge) {
+        return indexedGraph.getNode(indexedGraph.getOutSource(checkEdge(edge)));
+    }
+
+    @Override
+    public Node getEdgeTarget(Edge edge) {
+        return indexedGraph.getNode(indexedGraph.getOutTarget(checkEdge(edge)));
+    }
+
+    @Override
+    public double getEdgeWeight(Edge edge) {
+        return indexedGraph.getOutWeight(checkEdge(edge));
+    }
+
+    @Override
+    public int inDegreeOf(Node vertex) {
+        return indexedGraph.getInDegree(checkNode(vertex));
+    }
+
+    @Override
+    public Set<Edge> incomingEdgesOf(Node vertex) {
+        return new InEdgeSet(checkNode(vertex));
+    }
+
+    @Override
+    public int outDegreeOf(Node vertex) {
+        return indexedGraph.getOutDegree(checkNode(vertex));
+    }
+
+    @Override
+    public Set<Edge> outgoingEdgesOf(Node vertex) {
+        int node = checkNode(vertex);
+        return new OutEdgeSet(indexedGraph.getOutStart(node), indexedGraph.getOutEnd(node));
+    }
+
+    @Override
+    public Edge addEdge(Node sourceVertex, Node targetVertex) {
+        throw new UnsupportedOperationException(MESSAGE_FROZEN);
+    }
+
+    @Override
+    public boolean addEdge(Node sourceVertex, Node targetVertex, Edge edge) {
+        throw new UnsupportedOperationException(MESSAGE_FROZEN);
+    }
+
+    @Override
+    public boolean addVertex(Node node) {
+        throw new UnsupportedOperationException(MESSAGE_FROZEN);
+    }
+
+    @Override
+    public Edge removeEdge(Node sourceVertex, Node targetVertex) {
+        throw new UnsupportedOperationException(MESSAGE_FROZEN);
+    }
+
+    @Override
+    public boolean removeEdge(Edge edge) {
+        throw new UnsupportedOperationException(MESSAGE_FROZEN);
+    }
+
+    @Override
+    public boolean removeVertex(Node node) {
+        throw new UnsupportedOperationException(MESSAGE_FROZEN);
+    }
+    
+    private class NodeSet extends AbstractSet<Node> {
+        
+        @Override
+        public Iterator<Node> iterator() {
+            return new Iterator<Node>() {
+                private int index = 0;
+                
+                @Override
+                public boolean hasNext() {
+                    return index < indexedGraph.getNumberOfNodes();
+                }
+
+                @Override
+                public Node next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return indexedGraph.getNode(index++);
+                }
+            };
+        }
+
+        @Override
+        public boolean contains(Object node) {
+            return indexedGraph.getIndex(node) >= 0;
+        }
+        
+        @Override
+        public int size() {
+            return indexedGraph.getNumberOfNodes();
+        }
+    }
+    
+    /**
+     * The edges in the slots start to end-1 of the edge arrays.
+     */
+    private class OutEdgeSet extends AbstractSet<Edge> {
+        
+        private final int start;
+        private final int end;
+        
+        OutEdgeSet(int start, int end) {
+            super();
+            this.start = start;
+            this.end = end;
+        }
+        
+        @Override
+        public Iterator<Edge> iterator() {
+            return new Iterator<Edge>() {
+                private int slot = start;
+                
+                @Override
+                public boolean hasNext() {
+                    return slot < end;
+                }
+
+                @Override
+                public Edge next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return indexedGraph.getOutEdge(slot++);
+                }
+            };
+        }
+
+        @Override
+        public boolean contains(Object edge) {
+            int slot = indexedGraph.getSlot(edge);
+            return slot >= start && slot < end;
+        }
+        
+        @Override
+        public int size() {
+            return end - start;
+        }
+    }
+    
+    /**
+     * The incoming edges of a node.
+     */
+    private class InEdgeSet extends AbstractSet<Edge> {
+        
+        private final int node;
+        
+        InEdgeSet(int node) {
+            super();
+            this.node = node;
+        }
+        
+        @Override
+        public Iterator<Edge> iterator() {
+            return new Iterator<Edge>() {
+                private int slot = indexedGraph.getInStart(node);
+                
+                @Override
+                public boolean hasNext() {
+                    return slot < indexedGraph.getInEnd(node);
+                }
+
+                @Override
+                public Edge next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return indexedGraph.getInEdge(slot++);
+                }
+            };
+        }
+
+        @Override
+        public boolean contains(Object edge) {
+            int slot = indexedGraph.getSlot(edge);
+            return slot >= 0 && indexedGraph.getOutTarget(slot) == node;
+        }
+        
+        @Override
+        public int size() {
+            return indexedGraph.getInDegree(node);
+        }
+    }
+}
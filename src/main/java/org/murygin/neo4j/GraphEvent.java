@@ -0,0 +1,73 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j;
+
+/**
+ * A node or a relationship decoded from a Cypher query result.
+ * The source and target node of the edge of a relationship event only 
+ * contain the id of the nodes. 
+ * 
+ * @see GraphEventPublisher
+ */
+public class GraphEvent {
+
+    public enum Type {
+        NODE, RELATIONSHIP
+    }
+    
+    private final Type type;
+    private final Node node;
+    private final Edge edge;
+    
+    private GraphEvent(Type type, Node node, Edge edge) {
+        super();
+        this.type = type;
+        this.node = node;
+        this.edge = edge;
+    }
+    
+    public static GraphEvent node(Node node) {
+        return new GraphEvent(Type.NODE, node, null);
+    }
+    
+    public static GraphEvent relationship(Edge edge) {
+        return new GraphEvent(Type.RELATIONSHIP, null, edge);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * @return The node of a node event or null
+     */
+    public Node getNode() {
+        return node;
+    }
+
+    /**
+     * @return The edge of a relationship event or null
+     */
+    public Edge getEdge() {
+        return edge;
+    }
+
+    @Override
+    public String toString() {
+        return (type == Type.NODE) ? "GraphEvent [node=" + node + "]" : "GraphEvent [edge=" + edge + "]";
+    }
+}
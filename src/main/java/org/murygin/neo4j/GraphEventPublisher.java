@@ -0,0 +1,292 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j;
+
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Publishes the nodes and relationships of a Cypher query result as 
+ * {@link GraphEvent}s while the response is decoded. The response is 
+ * read only as fast as the subscriber requests events, only the current 
+ * data entry of the response is kept in memory. 
+ * 
+ * Every subscriber executes the query. By default events are delivered 
+ * in the thread which calls Subscription.request(..), set an executor to 
+ * deliver them in other threads. Nodes and relationships which are 
+ * returned more than once are published once, the publisher keeps the 
+ * ids for this. Call setDistinct(false) to publish duplicates and keep 
+ * the memory bounded.
+ * 
+ * The deadline of the executer bounds every subscription. Cancelling a 
+ * subscription aborts a read which waits for the response, the 
+ * subscriber receives no further signals. If the deadline is exceeded, 
+ * the subscriber receives a {@link QueryCancelledException}.
+ * 
+ * Getting started:
+ * 
+ * GraphEventPublisher publisher = graphLoader.publish("MATCH n-[r]-() RETURN n,r");
+ * publisher.subscribe(subscriber);
+ */
+public class GraphEventPublisher implements Flow.Publisher<GraphEvent> {
+
+    final Logger LOG = LoggerFactory.getLogger(GraphEventPublisher.class);
+    
+    private final CypherToJson executer;
+    private final String uri;
+    private final String requestJson;
+    private Executor executor = Runnable::run;
+    private boolean distinct = true;
+    
+    GraphEventPublisher(CypherToJson executer, String uri, String requestJson) {
+        super();
+        this.executer = executer;
+        this.uri = uri;
+        this.requestJson = requestJson;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super GraphEvent> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("Subscriber is null");
+        }
+        EventSubscription subscription = new EventSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+    
+    static Node createNode(JSONObject nodeJson) {
+        Node node = new Node((String) nodeJson.get("id"));
+        JSONArray labels = JsonResults.getJsonArray(nodeJson, "labels");
+        if (labels != null) {
+            for (Object label : labels) {
+                node.addLabel((String) label);
+            }
+        }
+        addProperties(node, JsonResults.getJson(nodeJson, "properties"));
+        return node;
+    }
+    
+    static Edge createEdge(JSONObject relationJson) {
+        Edge edge = new Edge((String) relationJson.get("id"), 
+                new Node((String) relationJson.get("startNode")), 
+                new Node((String) relationJson.get("endNode")), 
+                (String) relationJson.get("type"));
+        addProperties(edge, JsonResults.getJson(relationJson, "properties"));
+        return edge;
+    }
+    
+    private static void addProperties(IPropertyContainer container, JSONObject properties) {
+        if (properties == null) {
+            return;
+        }
+        for (Object key : properties.keySet()) {
+            Object value = properties.get(key);
+            if (value != null) {
+                container.addProperty((String) key, value);
+            }
+        }
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * @param executor The executor which delivers the events
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    public boolean isDistinct() {
+        return distinct;
+    }
+
+    /**
+     * @param distinct true if nodes and relationships are published once, 
+     *  false if they are published every time they are returned
+     */
+    public void setDistinct(boolean distinct) {
+        this.distinct = distinct;
+    }
+    
+    /**
+     * Delivers events in a drain loop. Only one thread runs the loop at
+     * a time, calls of request(..) and cancel() from other threads or 
+     * from onNext(..) increase the work counter and the running loop 
+     * makes another pass.
+     */
+    private class EventSubscription implements Flow.Subscription {
+        
+        private final Flow.Subscriber<? super GraphEvent> subscriber;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger work = new AtomicInteger();
+        private volatile boolean cancelled = false;
+        private volatile IllegalArgumentException invalidRequest;
+        // bounded by the deadline of the executer, cancelled by cancel()
+        private final Deadline deadline;
+        private final Deadline.Registration parentRegistration;
+        
+        // only used in the drain loop
+        private final Queue<GraphEvent> events = new LinkedList<GraphEvent>();
+        private final Set<String> nodeIds = new HashSet<String>();
+        private final Set<String> relationIds = new HashSet<String>();
+        private ResultReader resultReader;
+        private boolean done = false;
+        
+        EventSubscription(Flow.Subscriber<? super GraphEvent> subscriber) {
+            super();
+            this.subscriber = subscriber;
+            Deadline parent = executer.getDeadline();
+            if (parent == null) {
+                deadline = Deadline.none();
+                parentRegistration = null;
+            } else {
+                long remaining = parent.getRemainingMillis();
+                deadline = (remaining == Long.MAX_VALUE) ? Deadline.none() : Deadline.after(remaining, TimeUnit.MILLISECONDS);
+                // a cancelled subscription must not cancel the deadline of other executions
+                parentRegistration = parent.onAbort(() -> {
+                    if (parent.isCancelled()) {
+                        deadline.cancel();
+                    }
+                });
+            }
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                invalidRequest = new IllegalArgumentException("Number of requested events is not positive: " + n);
+            } else {
+                requested.getAndUpdate(current -> (current + n < 0) ? Long.MAX_VALUE : current + n);
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            // the drain loop may be blocked in a read in another thread
+            deadline.cancel();
+            schedule();
+        }
+        
+        private void schedule() {
+            if (work.getAndIncrement() == 0) {
+                executor.execute(this::drain);
+            }
+        }
+        
+        private void drain() {
+            int missed = 1;
+            do {
+                if (!done) {
+                    emit();
+                }
+                missed = work.addAndGet(-missed);
+            } while (missed != 0);
+        }
+        
+        private void emit() {
+            try {
+                while (!cancelled && invalidRequest == null && requested.get() > 0) {
+                    GraphEvent event = events.poll();
+                    if (event != null) {
+                        requested.decrementAndGet();
+                        subscriber.onNext(event);
+                    } else if (!readEvents()) {
+                        finish();
+                        subscriber.onComplete();
+                        return;
+                    }
+                }
+                if (invalidRequest != null) {
+                    finish();
+                    subscriber.onError(invalidRequest);
+                } else if (cancelled) {
+                    finish();
+                }
+            } catch (RuntimeException e) {
+                if (done) {
+                    LOG.warn("Subscriber failed after the last event", e);
+                    return;
+                }
+                finish();
+                if (!cancelled) {
+                    subscriber.onError(e);
+                }
+            }
+        }
+        
+        /**
+         * Decodes the next data entry of the response.
+         * 
+         * @return false if there are no more entries
+         */
+        private boolean readEvents() {
+            if (resultReader == null) {
+                resultReader = executer.openResultReader(uri, requestJson, deadline);
+            }
+            deadline.check();
+            JSONObject dataEntry = resultReader.nextData();
+            if (dataEntry == null) {
+                return false;
+            }
+            JSONObject graphJson = JsonResults.getJson(dataEntry, "graph");
+            if (graphJson == null) {
+                return true;
+            }
+            for (Object nodeJson : JsonResults.getJsonArray(graphJson, "nodes")) {
+                String id = (String) ((JSONObject) nodeJson).get("id");
+                if (!distinct || nodeIds.add(id)) {
+                    events.add(GraphEvent.node(createNode((JSONObject) nodeJson)));
+                }
+            }
+            for (Object relationJson : JsonResults.getJsonArray(graphJson, "relationships")) {
+                String id = (String) ((JSONObject) relationJson).get("id");
+                if (!distinct || id == null || relationIds.add(id)) {
+                    events.add(GraphEvent.relationship(createEdge((JSONObject) relationJson)));
+                }
+            }
+            return true;
+        }
+        
+        private void finish() {
+            done = true;
+            events.clear();
+            nodeIds.clear();
+            relationIds.clear();
+            if (resultReader != null) {
+                resultReader.close();
+            }
+            if (parentRegistration != null) {
+                parentRegistration.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,128 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j;
+
+import java.util.Map;
+
+import org.jgrapht.DirectedGraph;
+
+/**
+ * The size of a graph: Number of nodes and edges and the estimated 
+ * number of bytes on the heap. The estimate counts the node and edge 
+ * objects, their labels and properties and the overhead of the JGraphT 
+ * graph and of the loader per element. It assumes a 64 bit JVM with 
+ * compressed references and 2 bytes per character.
+ */
+public class GraphFootprint {
+
+    // Node, label list, property table and the vertex entry and edge container of the graph
+    public static final long NODE_OVERHEAD = 320;
+    // Edge, property table, the intrusive edge of the graph and the entries in edge lists
+    public static final long EDGE_OVERHEAD = 200;
+    // Entry of a property table or a label list
+    public static final long ENTRY_OVERHEAD = 32;
+    public static final long STRING_OVERHEAD = 40;
+    // Entry of the table of property values which are not strings and the boxed value
+    public static final long TYPED_VALUE_OVERHEAD = 56;
+    
+    private long numberOfNodes = 0;
+    private long numberOfEdges = 0;
+    private long estimatedBytes = 0;
+    
+    /**
+     * @param graph A graph
+     * @return The footprint of the graph
+     */
+    public static GraphFootprint estimate(DirectedGraph<Node, Edge> graph) {
+        GraphFootprint footprint = new GraphFootprint();
+        for (Node node : graph.vertexSet()) {
+            footprint.add(1, 0, estimate(node));
+        }
+        for (Edge edge : graph.edgeSet()) {
+            footprint.add(0, 1, estimate(edge));
+        }
+        return footprint;
+    }
+    
+    /**
+     * @return The estimated size of a node in bytes
+     */
+    public static long estimate(Node node) {
+        long bytes = NODE_OVERHEAD + estimate(node.getId()) + estimate(node.getProperties()) + estimateTypedValues(node);
+        for (String label : node.getLabels()) {
+            bytes += ENTRY_OVERHEAD + estimate(label);
+        }
+        return bytes;
+    }
+    
+    /**
+     * @return The estimated size of an edge in bytes, the nodes are not counted
+     */
+    public static long estimate(Edge edge) {
+        return EDGE_OVERHEAD + estimate(edge.getId()) + estimate(edge.getType()) + estimate(edge.getProperties()) + estimateTypedValues(edge);
+    }
+    
+    private static long estimateTypedValues(IPropertyContainer container) {
+        long bytes = 0;
+        for (String key : container.getProperties().keySet()) {
+            if (!(container.getPropertyValue(key) instanceof String)) {
+                bytes += TYPED_VALUE_OVERHEAD;
+            }
+        }
+        return bytes;
+    }
+    
+    private static long estimate(Map<String, String> properties) {
+        long bytes = 0;
+        if (properties != null) {
+            for (Map.Entry<String, String> entry : properties.entrySet()) {
+                bytes += ENTRY_OVERHEAD + estimate(entry.getKey()) + estimate(entry.getValue());
+            }
+        }
+        return bytes;
+    }
+    
+    private static long estimate(String value) {
+        return (value == null) ? 0 : STRING_OVERHEAD + 2L * value.length();
+    }
+    
+    void add(long nodes, long edges, long bytes) {
+        numberOfNodes += nodes;
+        numberOfEdges += edges;
+        estimatedBytes += bytes;
+    }
+
+    public long getNumberOfNodes() {
+        return numberOfNodes;
+    }
+
+    public long getNumberOfEdges() {
+        return numberOfEdges;
+    }
+
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return "nodes: " + numberOfNodes + ", edges: " + numberOfEdges + ", estimated bytes: " + estimatedBytes;
+    }
+}
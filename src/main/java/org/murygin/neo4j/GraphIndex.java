@@ -0,0 +1,330 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.jgrapht.DirectedGraph;
+
+/**
+ * Indexes of the nodes and edges of a graph: Label to nodes, 
+ * relationship type to edges and property value to nodes for 
+ * chosen property keys. Hash indexes find nodes by value in O(1), 
+ * sorted indexes find nodes by a range of values in O(log n). 
+ * Numeric values are sorted by number, other values by string. A value 
+ * is parsed once when it is added, the sorted index keeps the parsed key. 
+ * 
+ * Set an index before loading a graph and the loader fills it. The 
+ * index contains the properties of the nodes at load time, it is not 
+ * updated if a property is changed afterwards.
+ * 
+ * Getting started:
+ * 
+ * GraphIndex index = new GraphIndex();
+ * index.addHashIndex("name");
+ * index.addSortedIndex("age");
+ * graphLoader.setGraphIndex(index);
+ * graphLoader.execute("MATCH n-[r]-() RETURN n,r");
+ * Set<Node> nodes = index.getNodes("name", "Smith");
+ */
+public class GraphIndex {
+
+    private Map<String, Set<Node>> labelIndex;
+    private Map<String, Set<Edge>> typeIndex;
+    private Map<String, Map<String, Set<Node>>> hashIndexes;
+    private Map<String, NavigableMap<SortKey, Set<Node>>> sortedIndexes;
+    
+    public GraphIndex() {
+        super();
+        labelIndex = new HashMap<String, Set<Node>>();
+        typeIndex = new HashMap<String, Set<Edge>>();
+        hashIndexes = new HashMap<String, Map<String, Set<Node>>>();
+        sortedIndexes = new HashMap<String, NavigableMap<SortKey, Set<Node>>>();
+    }
+    
+    /**
+     * Creates the indexes of a graph which is already loaded.
+     * 
+     * @param graph A graph
+     * @param hashKeys Property keys of hash indexes
+     * @param sortedKeys Property keys of sorted indexes
+     * @return The indexes of the graph
+     */
+    public static GraphIndex create(DirectedGraph<Node, Edge> graph, Collection<String> hashKeys, Collection<String> sortedKeys) {
+        GraphIndex index = new GraphIndex();
+        for (String key : hashKeys) {
+            index.addHashIndex(key);
+        }
+        for (String key : sortedKeys) {
+            index.addSortedIndex(key);
+        }
+        for (Node node : graph.vertexSet()) {
+            index.add(node);
+        }
+        for (Edge edge : graph.edgeSet()) {
+            index.add(edge);
+        }
+        return index;
+    }
+    
+    /**
+     * @return An empty index with the same property keys
+     */
+    public GraphIndex createEmpty() {
+        GraphIndex index = new GraphIndex();
+        for (String key : hashIndexes.keySet()) {
+            index.addHashIndex(key);
+        }
+        for (String key : sortedIndexes.keySet()) {
+            index.addSortedIndex(key);
+        }
+        return index;
+    }
+    
+    /**
+     * Adds a hash index for a property key. Call this before nodes are added.
+     * 
+     * @param key A property key
+     */
+    public void addHashIndex(String key) {
+        hashIndexes.put(key, new HashMap<String, Set<Node>>());
+    }
+    
+    /**
+     * Adds a sorted index for a property key. Call this before nodes are added.
+     * 
+     * @param key A property key
+     */
+    public void addSortedIndex(String key) {
+        sortedIndexes.put(key, new TreeMap<SortKey, Set<Node>>());
+    }
+    
+    public void add(Node node) {
+        for (String label : node.getLabels()) {
+            addToIndex(labelIndex, label, node);
+        }
+        for (Map.Entry<String, Map<String, Set<Node>>> entry : hashIndexes.entrySet()) {
+            String value = node.getProperty(entry.getKey());
+            if (value != null) {
+                addToIndex(entry.getValue(), value, node);
+            }
+        }
+        for (Map.Entry<String, NavigableMap<SortKey, Set<Node>>> entry : sortedIndexes.entrySet()) {
+            String value = node.getProperty(entry.getKey());
+            if (value != null) {
+                addToIndex(entry.getValue(), new SortKey(value), node);
+            }
+        }
+    }
+    
+    public void add(Edge edge) {
+        if (edge.getType() != null) {
+            addToIndex(typeIndex, edge.getType(), edge);
+        }
+    }
+    
+    private static <K, T> void addToIndex(Map<K, Set<T>> index, K key, T element) {
+        Set<T> elements = index.get(key);
+        if (elements == null) {
+            elements = new LinkedHashSet<T>();
+            index.put(key, elements);
+        }
+        elements.add(element);
+    }
+    
+    /**
+     * @param label A node label
+     * @return All nodes with the label
+     */
+    public Set<Node> getNodesByLabel(String label) {
+        return unmodifiable(labelIndex.get(label));
+    }
+    
+    /**
+     * @param type A relationship type
+     * @return All edges with the type
+     */
+    public Set<Edge> getEdgesByType(String type) {
+        return unmodifiable(typeIndex.get(type));
+    }
+    
+    /**
+     * Returns all nodes with a property value. Uses a hash 
+     * or sorted index for the property key. 
+     * 
+     * @param key A property key with an index
+     * @param value A property value
+     * @return All nodes with the property value
+     */
+    public Set<Node> getNodes(String key, String value) {
+        Map<String, Set<Node>> hashIndex = hashIndexes.get(key);
+        if (hashIndex != null) {
+            return unmodifiable(hashIndex.get(value));
+        }
+        NavigableMap<SortKey, Set<Node>> sortedIndex = sortedIndexes.get(key);
+        if (sortedIndex == null) {
+            throw new IllegalArgumentException("No index for property: " + key);
+        }
+        return unmodifiable(sortedIndex.get(new SortKey(value)));
+    }
+    
+    /**
+     * @param key A property key with an index
+     * @param value A property value
+     * @return A node with the property value or null
+     */
+    public Node getNode(String key, String value) {
+        Set<Node> nodes = getNodes(key, value);
+        return nodes.isEmpty() ? null : nodes.iterator().next();
+    }
+    
+    /**
+     * Returns all nodes with a property value in a range, sorted by value.
+     * 
+     * @param key A property key with a sorted index
+     * @param from The lowest value, null for no lower bound
+     * @param to The highest value, null for no upper bound
+     * @return All nodes with a property value from from to to inclusive
+     */
+    public List<Node> getNodesInRange(String key, String from, String to) {
+        NavigableMap<SortKey, Set<Node>> index = sortedIndexes.get(key);
+        if (index == null) {
+            throw new IllegalArgumentException("No sorted index for property: " + key);
+        }
+        if (from != null) {
+            index = index.tailMap(new SortKey(from), true);
+        }
+        if (to != null) {
+            index = index.headMap(new SortKey(to), true);
+        }
+        List<Node> nodes = new LinkedList<Node>();
+        for (Set<Node> nodesWithValue : index.values()) {
+            nodes.addAll(nodesWithValue);
+        }
+        return nodes;
+    }
+    
+    public Set<String> getLabels() {
+        return Collections.unmodifiableSet(labelIndex.keySet());
+    }
+    
+    public Set<String> getTypes() {
+        return Collections.unmodifiableSet(typeIndex.keySet());
+    }
+    
+    private static <T> Set<T> unmodifiable(Set<T> elements) {
+        return (elements == null) ? Collections.<T>emptySet() : Collections.unmodifiableSet(elements);
+    }
+    
+    /**
+     * A property value of a sorted index, parsed once. 
+     * Numbers are sorted by value before all other strings.
+     */
+    private static final class SortKey implements Comparable<SortKey> {
+
+        private final String value;
+        private final boolean numeric;
+        private final double number;
+        
+        SortKey(String value) {
+            super();
+            this.value = value;
+            this.numeric = isNumber(value);
+            this.number = numeric ? Double.parseDouble(value) : 0;
+        }
+        
+        @Override
+        public int compareTo(SortKey other) {
+            if (numeric && other.numeric) {
+                int result = Double.compare(number, other.number);
+                return (result != 0) ? result : value.compareTo(other.value);
+            }
+            if (numeric) {
+                return -1;
+            }
+            if (other.numeric) {
+                return 1;
+            }
+            return value.compareTo(other.value);
+        }
+        
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof SortKey && value.equals(((SortKey) obj).value);
+        }
+
+        @Override
+        public int hashCode() {
+            return value.hashCode();
+        }
+        
+        /**
+         * Checks if a value is a decimal number like -1, 2.5 or 1e-3 
+         * without throwing an exception for other values.
+         */
+        private static boolean isNumber(String value) {
+            int length = value.length();
+            int i = 0;
+            if (i < length && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+                i++;
+            }
+            int digits = 0;
+            while (i < length && isDigit(value.charAt(i))) {
+                i++;
+                digits++;
+            }
+            if (i < length && value.charAt(i) == '.') {
+                i++;
+                while (i < length && isDigit(value.charAt(i))) {
+                    i++;
+                    digits++;
+                }
+            }
+            if (digits == 0) {
+                return false;
+            }
+            if (i < length && (value.charAt(i) == 'e' || value.charAt(i) == 'E')) {
+                i++;
+                if (i < length && (value.charAt(i) == '-' || value.charAt(i) == '+')) {
+                    i++;
+                }
+                int exponentDigits = 0;
+                while (i < length && isDigit(value.charAt(i))) {
+                    i++;
+                    exponentDigits++;
+                }
+                if (exponentDigits == 0) {
+                    return false;
+                }
+            }
+            return i == length;
+        }
+        
+        private static boolean isDigit(char c) {
+            return c >= '0' && c <= '9';
+        }
+    }
+}
@@ -0,0 +1,90 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.jgrapht.DirectedGraph;
+
+/**
+ * A copy of the properties of all nodes and edges of a graph.
+ * Property values are kept with the types they are loaded with.
+ * Create a snapshot right after a graph is loaded. {@link GraphWriter} 
+ * compares the graph with the snapshot and writes the changes
+ * back to Neo4j.
+ * 
+ * Getting started:
+ * 
+ * DirectedGraph graph = graphLoader.execute("MATCH n-[r]-() RETURN n,r");
+ * GraphSnapshot snapshot = GraphSnapshot.create(graph);
+ * .. change the graph ..
+ * graphWriter.writeChanges(graph, snapshot);
+ */
+public class GraphSnapshot {
+
+    private Map<String, Map<String, Object>> nodeProperties;
+    private Map<String, Map<String, Object>> edgeProperties;
+    
+    private GraphSnapshot() {
+        super();
+        nodeProperties = new HashMap<String, Map<String, Object>>();
+        edgeProperties = new HashMap<String, Map<String, Object>>();
+    }
+    
+    /**
+     * @param graph A graph loaded from Neo4j
+     * @return A snapshot of the properties of the nodes and edges of the graph
+     */
+    public static GraphSnapshot create(DirectedGraph<Node, Edge> graph) {
+        GraphSnapshot snapshot = new GraphSnapshot();
+        for (Node node : graph.vertexSet()) {
+            snapshot.nodeProperties.put(node.getId(), node.getPropertyValues());
+        }
+        for (Edge edge : graph.edgeSet()) {
+            if (edge.getId() != null) {
+                snapshot.edgeProperties.put(edge.getId(), edge.getPropertyValues());
+            }
+        }
+        return snapshot;
+    }
+    
+    public boolean containsNode(String id) {
+        return nodeProperties.containsKey(id);
+    }
+    
+    public boolean containsEdge(String id) {
+        return edgeProperties.containsKey(id);
+    }
+    
+    public Map<String, Object> getNodeProperties(String id) {
+        return nodeProperties.get(id);
+    }
+    
+    public Map<String, Object> getEdgeProperties(String id) {
+        return edgeProperties.get(id);
+    }
+    
+    public Set<String> getNodeIds() {
+        return nodeProperties.keySet();
+    }
+    
+    public Set<String> getEdgeIds() {
+        return edgeProperties.keySet();
+    }
+}
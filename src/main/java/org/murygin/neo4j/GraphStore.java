@@ -0,0 +1,192 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jgrapht.DirectedGraph;
+import org.jgrapht.graph.DirectedPseudograph;
+
+/**
+ * A pool of nodes and edges which is shared by the results of many 
+ * queries. Every node and edge is stored once. The result of a query 
+ * is a {@link GraphView}: A bitset which selects nodes and edges of 
+ * the pool. The memory of many overlapping results is close to the 
+ * size of their union instead of their sum.
+ * 
+ * Nodes and edges are identified by their id. If a node or edge is 
+ * loaded again, the pooled instance with the properties of the first 
+ * load is used. Numeric ids are mapped to the pool indexes without 
+ * boxing, see {@link LongIntMap}.
+ * 
+ * The store is not synchronized. Do not read views while a query is 
+ * loaded into the same store.
+ * 
+ * Getting started:
+ * 
+ * GraphStore store = new GraphStore();
+ * graphLoader.setGraphStore(store);
+ * GraphView stations = (GraphView) graphLoader.execute("MATCH (n:station)-[r]-() RETURN n,r");
+ * GraphView lines = (GraphView) graphLoader.execute("MATCH (n:line)-[r]-() RETURN n,r");
+ */
+public class GraphStore {
+
+    private final DirectedPseudograph<Node, Edge> graph;
+    
+    private final List<Node> nodes;
+    private final LongIntMap nodeIndexes;
+    private final Map<String, Integer> otherNodeIndexes;
+    
+    private final List<Edge> edges;
+    private final LongIntMap edgeIndexes;
+    private final Map<Edge, Integer> otherEdgeIndexes;
+    
+    public GraphStore() {
+        super();
+        graph = new DirectedPseudograph<Node, Edge>(Edge.class);
+        nodes = new ArrayList<Node>();
+        nodeIndexes = new LongIntMap();
+        otherNodeIndexes = new HashMap<String, Integer>();
+        edges = new ArrayList<Edge>();
+        edgeIndexes = new LongIntMap();
+        otherEdgeIndexes = new HashMap<Edge, Integer>();
+    }
+    
+    /**
+     * @return A new empty view of this store
+     */
+    public GraphView createView() {
+        return new GraphView(this);
+    }
+    
+    /**
+     * @param id The id of a node
+     * @return The pooled node with the id or null
+     */
+    public Node getNode(String id) {
+        int index = getNodeIndex(id);
+        return (index < 0) ? null : nodes.get(index);
+    }
+    
+    /**
+     * @param id The id of a relationship
+     * @return The pooled edge with the id or null
+     */
+    public Edge getEdge(String id) {
+        if (id == null) {
+            return null;
+        }
+        long numericId = LongObjectMap.parseId(id);
+        int index;
+        if (numericId >= 0) {
+            index = edgeIndexes.get(numericId);
+        } else {
+            // edges with an id are equal if their ids are equal
+            index = getIndex(otherEdgeIndexes.get(new Edge(id, null, null, null)));
+        }
+        return (index < 0) ? null : edges.get(index);
+    }
+    
+    public boolean containsEdge(Edge edge) {
+        return getEdgeIndex(edge) >= 0;
+    }
+    
+    public int getNumberOfNodes() {
+        return nodes.size();
+    }
+    
+    public int getNumberOfEdges() {
+        return edges.size();
+    }
+    
+    /**
+     * @return The union of all views, do not change it
+     */
+    public DirectedGraph<Node, Edge> getGraph() {
+        return graph;
+    }
+    
+    Node getNode(int index) {
+        return nodes.get(index);
+    }
+    
+    Edge getEdge(int index) {
+        return edges.get(index);
+    }
+    
+    int getNodeIndex(String id) {
+        long numericId = LongObjectMap.parseId(id);
+        return (numericId >= 0) ? nodeIndexes.get(numericId) : getIndex(otherNodeIndexes.get(id));
+    }
+    
+    int getEdgeIndex(Edge edge) {
+        long numericId = LongObjectMap.parseId(edge.getId());
+        return (numericId >= 0) ? edgeIndexes.get(numericId) : getIndex(otherEdgeIndexes.get(edge));
+    }
+    
+    private static int getIndex(Integer index) {
+        return (index == null) ? -1 : index;
+    }
+    
+    /**
+     * Adds a node to the pool if there is no node with the same id.
+     * 
+     * @return The index of the pooled node
+     */
+    int addNode(Node node) {
+        int index = getNodeIndex(node.getId());
+        if (index >= 0) {
+            return index;
+        }
+        index = nodes.size();
+        nodes.add(node);
+        graph.addVertex(node);
+        long numericId = LongObjectMap.parseId(node.getId());
+        if (numericId >= 0) {
+            nodeIndexes.put(numericId, index);
+        } else {
+            otherNodeIndexes.put(node.getId(), index);
+        }
+        return index;
+    }
+    
+    /**
+     * Adds an edge to the pool if there is no equal edge. 
+     * The nodes must be in the pool.
+     * 
+     * @return The index of the pooled edge
+     */
+    int addEdge(Node sourceNode, Node targetNode, Edge edge) {
+        int index = getEdgeIndex(edge);
+        if (index >= 0) {
+            return index;
+        }
+        index = edges.size();
+        edges.add(edge);
+        graph.addEdge(sourceNode, targetNode, edge);
+        long numericId = LongObjectMap.parseId(edge.getId());
+        if (numericId >= 0) {
+            edgeIndexes.put(numericId, index);
+        } else {
+            otherEdgeIndexes.put(edge, index);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,308 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.IntFunction;
+
+import org.jgrapht.DirectedGraph;
+import org.jgrapht.EdgeFactory;
+import org.jgrapht.graph.AbstractGraph;
+import org.jgrapht.util.ArrayUnenforcedSet;
+
+/**
+ * A subgraph of a {@link GraphStore}. Two bitsets select the nodes 
+ * and edges of the store which are part of this graph, a view needs 
+ * one bit per node and edge of the store. 
+ * 
+ * Adding a node or edge adds it to the store if it is not pooled yet 
+ * and selects the pooled instance. Removing a node or edge only removes 
+ * it from this view, other views of the store are not changed.
+ */
+public class GraphView extends AbstractGraph<Node, Edge> implements DirectedGraph<Node, Edge> {
+
+    private final GraphStore store;
+    private final BitSet nodeMask = new BitSet();
+    private final BitSet edgeMask = new BitSet();
+    private int numberOfNodes = 0;
+    private int numberOfEdges = 0;
+    private final Set<Node> vertexSet;
+    private final Set<Edge> edgeSet;
+    
+    GraphView(GraphStore store) {
+        super();
+        this.store = store;
+        vertexSet = new MaskSet<Node>(nodeMask, store::getNode) {
+            @Override
+            public boolean contains(Object node) {
+                return node instanceof Node && containsVertex((Node) node);
+            }
+            
+            @Override
+            public int size() {
+                return numberOfNodes;
+            }
+        };
+        edgeSet = new MaskSet<Edge>(edgeMask, store::getEdge) {
+            @Override
+            public boolean contains(Object edge) {
+                return edge instanceof Edge && containsEdge((Edge) edge);
+            }
+            
+            @Override
+            public int size() {
+                return numberOfEdges;
+            }
+        };
+    }
+    
+    public GraphStore getStore() {
+        return store;
+    }
+    
+    private int getNodeIndex(Node node) {
+        if (node == null) {
+            return -1;
+        }
+        int index = store.getNodeIndex(node.getId());
+        return (index >= 0 && nodeMask.get(index)) ? index : -1;
+    }
+    
+    private Node checkNode(Node node) {
+        int index = getNodeIndex(node);
+        if (index < 0) {
+            throw new IllegalArgumentException("No such vertex in graph: " + node);
+        }
+        return store.getNode(index);
+    }
+    
+    private Set<Edge> select(Set<Edge> edges) {
+        if (edges == null) {
+            return null;
+        }
+        List<Edge> selected = new ArrayList<Edge>(edges.size());
+        for (Edge edge : edges) {
+            if (edgeMask.get(store.getEdgeIndex(edge))) {
+                selected.add(edge);
+            }
+        }
+        return Collections.unmodifiableSet(new ArrayUnenforcedSet<Edge>(selected));
+    }
+    
+    private int count(Set<Edge> edges) {
+        int count = 0;
+        for (Edge edge : edges) {
+            if (edgeMask.get(store.getEdgeIndex(edge))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    @Override
+    public Set<Edge> getAllEdges(Node sourceVertex, Node targetVertex) {
+        if (getNodeIndex(sourceVertex) < 0 || getNodeIndex(targetVertex) < 0) {
+            return null;
+        }
+        return select(store.getGraph().getAllEdges(sourceVertex, targetVertex));
+    }
+
+    @Override
+    public Edge getEdge(Node sourceVertex, Node targetVertex) {
+        Set<Edge> edges = getAllEdges(sourceVertex, targetVertex);
+        return (edges == null || edges.isEmpty()) ? null : edges.iterator().next();
+    }
+
+    @Override
+    public EdgeFactory<Node, Edge> getEdgeFactory() {
+        return store.getGraph().getEdgeFactory();
+    }
+
+    @Override
+    public Edge addEdge(Node sourceVertex, Node targetVertex) {
+        throw new UnsupportedOperationException("Add an edge with id and type");
+    }
+
+    @Override
+    public boolean addEdge(Node sourceVertex, Node targetVertex, Edge edge) {
+        if (edge == null) {
+            throw new NullPointerException();
+        }
+        Node sourceNode = checkNode(sourceVertex);
+        Node targetNode = checkNode(targetVertex);
+        int index = store.addEdge(sourceNode, targetNode, edge);
+        if (edgeMask.get(index)) {
+            return false;
+        }
+        edgeMask.set(index);
+        numberOfEdges++;
+        return true;
+    }
+
+    @Override
+    public boolean addVertex(Node node) {
+        if (node == null) {
+            throw new NullPointerException();
+        }
+        int index = store.addNode(node);
+        if (nodeMask.get(index)) {
+            return false;
+        }
+        nodeMask.set(index);
+        numberOfNodes++;
+        return true;
+    }
+
+    @Override
+    public boolean containsEdge(Edge edge) {
+        int index = store.getEdgeIndex(edge);
+        return index >= 0 && edgeMask.get(index);
+    }
+
+    @Override
+    public boolean containsVertex(Node node) {
+        return getNodeIndex(node) >= 0;
+    }
+
+    @Override
+    public Set<Edge> edgeSet() {
+        return edgeSet;
+    }
+
+    @Override
+    public Set<Edge> edgesOf(Node vertex) {
+        return select(store.getGraph().edgesOf(checkNode(vertex)));
+    }
+
+    @Override
+    public boolean removeEdge(Edge edge) {
+        int index = store.getEdgeIndex(edge);
+        if (index < 0 || !edgeMask.get(index)) {
+            return false;
+        }
+        edgeMask.clear(index);
+        numberOfEdges--;
+        return true;
+    }
+
+    @Override
+    public Edge removeEdge(Node sourceVertex, Node targetVertex) {
+        Edge edge = getEdge(sourceVertex, targetVertex);
+        if (edge != null) {
+            removeEdge(edge);
+        }
+        return edge;
+    }
+
+    @Override
+    public boolean removeVertex(Node node) {
+        int index = getNodeIndex(node);
+        if (index < 0) {
+            return false;
+        }
+        for (Edge edge : edgesOf(node)) {
+            removeEdge(edge);
+        }
+        nodeMask.clear(index);
+        numberOfNodes--;
+        return true;
+    }
+
+    @Override
+    public Set<Node> vertexSet() {
+        return vertexSet;
+    }
+
+    @Override
+    public Node getEdgeSource(Edge edge) {
+        return store.getGraph().getEdgeSource(edge);
+    }
+
+    @Override
+    public Node getEdgeTarget(Edge edge) {
+        return store.getGraph().getEdgeTarget(edge);
+    }
+
+    @Override
+    public double getEdgeWeight(Edge edge) {
+        return store.getGraph().getEdgeWeight(edge);
+    }
+
+    @Override
+    public int inDegreeOf(Node vertex) {
+        return count(store.getGraph().incomingEdgesOf(checkNode(vertex)));
+    }
+
+    @Override
+    public Set<Edge> incomingEdgesOf(Node vertex) {
+        return select(store.getGraph().incomingEdgesOf(checkNode(vertex)));
+    }
+
+    @Override
+    public int outDegreeOf(Node vertex) {
+        return count(store.getGraph().outgoingEdgesOf(checkNode(vertex)));
+    }
+
+    @Override
+    public Set<Edge> outgoingEdgesOf(Node vertex) {
+        return select(store.getGraph().outgoingEdgesOf(checkNode(vertex)));
+    }
+    
+    /**
+     * The elements of the store selected by a bitset.
+     */
+    private abstract static class MaskSet<T> extends AbstractSet<T> {
+        
+        private final BitSet mask;
+        private final IntFunction<T> elements;
+        
+        MaskSet(BitSet mask, IntFunction<T> elements) {
+            super();
+            this.mask = mask;
+            this.elements = elements;
+        }
+        
+        @Override
+        public Iterator<T> iterator() {
+            return new Iterator<T>() {
+                private int index = mask.nextSetBit(0);
+                
+                @Override
+                public boolean hasNext() {
+                    return index >= 0;
+                }
+
+                @Override
+                public T next() {
+                    if (index < 0) {
+                        throw new NoSuchElementException();
+                    }
+                    T element = elements.apply(index);
+                    index = mask.nextSetBit(index + 1);
+                    return element;
+                }
+            };
+        }
+    }
+}
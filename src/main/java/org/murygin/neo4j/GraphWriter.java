@@ -0,0 +1,420 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.jgrapht.DirectedGraph;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes changes of a JGraphT graph and results of graph algorithms 
+ * back to Neo4j. Changes are sent as parameterized UNWIND queries in 
+ * batches. Every batch is executed in a transaction of its own.
+ * Property updates are sent by parallel requests.
+ * 
+ * Getting started:
+ * 
+ * GraphWriter writer = new GraphWriter();
+ * writer.setHost("NEO4J_HOST_NAME");
+ * writer.writeNodeProperty("rank", pageRankByNode);
+ * 
+ * Nodes and edges are identified by the Neo4j ids they are loaded with.
+ * New edges between loaded nodes are created, new nodes are not.
+ * Property values are sent with the types they are loaded with.
+ */
+public class GraphWriter {
+
+    final Logger LOG = LoggerFactory.getLogger(GraphWriter.class);
+    
+    public static final String UPDATE_NODES = "UNWIND {rows} AS row MATCH (n) WHERE id(n) = row.id SET n += row.properties";
+    public static final String UPDATE_RELATIONS = "UNWIND {rows} AS row MATCH ()-[r]->() WHERE id(r) = row.id SET r += row.properties";
+    public static final String CREATE_RELATIONS = "UNWIND {rows} AS row MATCH (a), (b) WHERE id(a) = row.start AND id(b) = row.end CREATE (a)-[r:%s]->(b) SET r += row.properties";
+    public static final String DELETE_RELATIONS = "UNWIND {rows} AS row MATCH ()-[r]->() WHERE id(r) = row DELETE r";
+    public static final String DELETE_NODES = "UNWIND {rows} AS row MATCH (n) WHERE id(n) = row DELETE n";
+    public static final String PARAMETER_ROWS = "rows";
+    
+    public static final int DEFAULT_BATCH_SIZE = 10000;
+    public static final int DEFAULT_PARALLELISM = 4;
+    
+    private String protocol = CypherToJson.DEFAULT_PROTOCOL;
+    private String host = CypherToJson.DEFAULT_HOST;
+    private String port = CypherToJson.DEFAULT_PORT;
+    private String path = CypherToJson.DEFAULT_PATH;
+    private int connectTimeout = CypherToJson.DEFAULT_CONNECT_TIMEOUT;
+    private int readTimeout = CypherToJson.DEFAULT_READ_TIMEOUT;
+    
+    private int batchSize = DEFAULT_BATCH_SIZE;
+    private int parallelism = DEFAULT_PARALLELISM;
+    
+    /**
+     * Sets one property on nodes, e.g. the result of a ranking algorithm.
+     * 
+     * @param key The property key
+     * @param values The property values by node
+     * @return The number of updated nodes
+     */
+    public int writeNodeProperty(String key, Map<Node, ?> values) {
+        List<Object> rows = new ArrayList<Object>(values.size());
+        for (Map.Entry<Node, ?> entry : values.entrySet()) {
+            Map<String, Object> properties = new HashMap<String, Object>();
+            properties.put(key, entry.getValue());
+            rows.add(createRow(entry.getKey().getId(), properties));
+        }
+        executeInParallel(UPDATE_NODES, rows);
+        return rows.size();
+    }
+    
+    /**
+     * Sets properties on nodes. A property with value null is removed.
+     * 
+     * @param updates Properties by node id
+     * @return The number of updated nodes
+     */
+    public int writeNodeProperties(Map<String, ? extends Map<String, ?>> updates) {
+        List<Object> rows = createRows(updates);
+        executeInParallel(UPDATE_NODES, rows);
+        return rows.size();
+    }
+    
+    /**
+     * Sets properties on relationships. A property with value null is removed.
+     * 
+     * @param updates Properties by relationship id
+     * @return The number of updated relationships
+     */
+    public int writeEdgeProperties(Map<String, ? extends Map<String, ?>> updates) {
+        List<Object> rows = createRows(updates);
+        executeInParallel(UPDATE_RELATIONS, rows);
+        return rows.size();
+    }
+    
+    /**
+     * Compares a graph with a snapshot taken after loading and writes 
+     * the changes to Neo4j: Removed edges and nodes are deleted, changed 
+     * properties are updated and new edges between loaded nodes are created.
+     * New nodes are ignored. An edge is new if it has no id, edges with an id 
+     * which are not in the snapshot are ignored.
+     * 
+     * A node is deleted after its relationships in the snapshot. A node 
+     * with relationships which are not in the snapshot is not deleted, 
+     * Neo4j rejects its batch and a RuntimeException is thrown. Batches 
+     * written before stay committed.
+     * 
+     * A changed property is sent with the type of the loaded value if 
+     * the new string can be converted, e.g. "7" is sent as number 7.
+     * 
+     * @param graph A graph loaded from Neo4j
+     * @param snapshot The snapshot of the graph after loading
+     * @return The number of changes
+     */
+    public int writeChanges(DirectedGraph<Node, Edge> graph, GraphSnapshot snapshot) {
+        List<Object> deletedEdges = new LinkedList<Object>();
+        Set<String> edgeIds = new HashSet<String>();
+        Map<String, Map<String, Object>> changedEdges = new HashMap<String, Map<String, Object>>();
+        Map<String, List<Object>> newEdgesByType = new HashMap<String, List<Object>>();
+        for (Edge edge : graph.edgeSet()) {
+            if (edge.getId() == null) {
+                addNewEdge(newEdgesByType, graph, edge, snapshot);
+            } else if (snapshot.containsEdge(edge.getId())) {
+                edgeIds.add(edge.getId());
+                addChanges(changedEdges, edge.getId(), snapshot.getEdgeProperties(edge.getId()), edge.getPropertyValues());
+            } else {
+                // e.g. loaded by expand(..) after the snapshot, it exists in Neo4j already
+                LOG.warn("Relationship which is not in the snapshot is not written to Neo4j: " + edge);
+            }
+        }
+        for (String id : snapshot.getEdgeIds()) {
+            if (!edgeIds.contains(id)) {
+                deletedEdges.add(toId(id));
+            }
+        }
+        List<Object> deletedNodes = new LinkedList<Object>();
+        Set<String> nodeIds = new HashSet<String>();
+        Map<String, Map<String, Object>> changedNodes = new HashMap<String, Map<String, Object>>();
+        for (Node node : graph.vertexSet()) {
+            if (snapshot.containsNode(node.getId())) {
+                nodeIds.add(node.getId());
+                addChanges(changedNodes, node.getId(), snapshot.getNodeProperties(node.getId()), node.getPropertyValues());
+            } else {
+                LOG.warn("New node is not written to Neo4j: " + node);
+            }
+        }
+        for (String id : snapshot.getNodeIds()) {
+            if (!nodeIds.contains(id)) {
+                deletedNodes.add(toId(id));
+            }
+        }
+        // creating and deleting locks both end nodes, run these batches one by one
+        executeSequential(DELETE_RELATIONS, deletedEdges);
+        executeSequential(DELETE_NODES, deletedNodes);
+        List<Object> nodeRows = createRows(changedNodes);
+        executeInParallel(UPDATE_NODES, nodeRows);
+        List<Object> edgeRows = createRows(changedEdges);
+        executeInParallel(UPDATE_RELATIONS, edgeRows);
+        int numberOfNewEdges = 0;
+        for (Map.Entry<String, List<Object>> entry : newEdgesByType.entrySet()) {
+            executeSequential(String.format(CREATE_RELATIONS, quote(entry.getKey())), entry.getValue());
+            numberOfNewEdges += entry.getValue().size();
+        }
+        int numberOfChanges = deletedEdges.size() + deletedNodes.size() + nodeRows.size() + edgeRows.size() + numberOfNewEdges;
+        if (LOG.isInfoEnabled()) {
+            LOG.info("Changes written, deleted edges: " + deletedEdges.size() + ", deleted nodes: " + deletedNodes.size()
+                    + ", changed nodes: " + nodeRows.size() + ", changed edges: " + edgeRows.size() + ", new edges: " + numberOfNewEdges);
+        }
+        return numberOfChanges;
+    }
+
+    private void addNewEdge(Map<String, List<Object>> newEdgesByType, DirectedGraph<Node, Edge> graph, Edge edge, GraphSnapshot snapshot) {
+        if (edge.getType() == null) {
+            LOG.warn("Edge without type is not written to Neo4j: " + edge);
+            return;
+        }
+        Node source = graph.getEdgeSource(edge);
+        Node target = graph.getEdgeTarget(edge);
+        if (!snapshot.containsNode(source.getId()) || !snapshot.containsNode(target.getId())) {
+            LOG.warn("Edge of new node is not written to Neo4j: " + edge);
+            return;
+        }
+        Map<String, Object> row = new HashMap<String, Object>();
+        row.put("start", toId(source.getId()));
+        row.put("end", toId(target.getId()));
+        row.put("properties", edge.getPropertyValues());
+        List<Object> rows = newEdgesByType.get(edge.getType());
+        if (rows == null) {
+            rows = new LinkedList<Object>();
+            newEdgesByType.put(edge.getType(), rows);
+        }
+        rows.add(row);
+    }
+
+    private static void addChanges(Map<String, Map<String, Object>> changes, String id, Map<String, Object> before, Map<String, Object> after) {
+        Map<String, Object> changed = new HashMap<String, Object>();
+        for (Map.Entry<String, Object> entry : after.entrySet()) {
+            Object value = toLoadedType(entry.getValue(), before.get(entry.getKey()));
+            if (!value.equals(before.get(entry.getKey()))) {
+                changed.put(entry.getKey(), value);
+            }
+        }
+        for (String key : before.keySet()) {
+            if (!after.containsKey(key)) {
+                // setting null removes the property
+                changed.put(key, null);
+            }
+        }
+        if (!changed.isEmpty()) {
+            changes.put(id, changed);
+        }
+    }
+
+    /**
+     * Converts a string to the type of the loaded value of a property: 
+     * a number or a boolean. Other values are returned unchanged.
+     */
+    private static Object toLoadedType(Object value, Object loadedValue) {
+        if (!(value instanceof String) || loadedValue == null || loadedValue instanceof String) {
+            return value;
+        }
+        String string = (String) value;
+        try {
+            if (loadedValue instanceof Long || loadedValue instanceof Integer) {
+                return Long.valueOf(string);
+            }
+            if (loadedValue instanceof Double || loadedValue instanceof Float) {
+                return Double.valueOf(string);
+            }
+        } catch (NumberFormatException e) {
+            return value;
+        }
+        if (loadedValue instanceof Boolean && ("true".equals(string) || "false".equals(string))) {
+            return Boolean.valueOf(string);
+        }
+        return value;
+    }
+
+    private static List<Object> createRows(Map<String, ? extends Map<String, ?>> updates) {
+        List<Object> rows = new ArrayList<Object>(updates.size());
+        for (Map.Entry<String, ? extends Map<String, ?>> entry : updates.entrySet()) {
+            rows.add(createRow(entry.getKey(), entry.getValue()));
+        }
+        return rows;
+    }
+
+    private static Map<String, Object> createRow(String id, Map<String, ?> properties) {
+        Map<String, Object> row = new HashMap<String, Object>();
+        row.put("id", toId(id));
+        row.put("properties", properties);
+        return row;
+    }
+
+    private static Long toId(String id) {
+        return Long.valueOf(id);
+    }
+
+    private static String quote(String name) {
+        return "`" + name.replace("`", "``") + "`";
+    }
+
+    private void executeSequential(String query, List<Object> rows) {
+        for (List<Object> batch : createBatches(rows)) {
+            executeBatch(query, batch);
+        }
+    }
+
+    private void executeInParallel(String query, List<Object> rows) {
+        List<List<Object>> batches = createBatches(rows);
+        if (batches.size() < 2 || getParallelism() < 2) {
+            executeSequential(query, rows);
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(getParallelism(), batches.size()));
+        try {
+            List<Future<?>> futures = new LinkedList<Future<?>>();
+            for (final List<Object> batch : batches) {
+                futures.add(executor.submit(() -> executeBatch(query, batch)));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new QueryCancelledException("Interrupted while writing batches", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            throw (cause instanceof RuntimeException) ? (RuntimeException) cause : new RuntimeException(cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<List<Object>> createBatches(List<Object> rows) {
+        List<List<Object>> batches = new LinkedList<List<Object>>();
+        List<Object> rowList = new ArrayList<Object>(rows);
+        for (int start = 0; start < rowList.size(); start += getBatchSize()) {
+            batches.add(rowList.subList(start, Math.min(rowList.size(), start + getBatchSize())));
+        }
+        return batches;
+    }
+
+    private void executeBatch(String query, List<Object> batch) {
+        Map<String, Object> parameters = new HashMap<String, Object>();
+        parameters.put(PARAMETER_ROWS, batch);
+        JSONObject json = createCypherToJson().execute(query, parameters);
+        JSONArray errors = JsonResults.getJsonArray(json, "errors");
+        if (errors != null && !errors.isEmpty()) {
+            throw new RuntimeException("Neo4j returned errors: " + errors);
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Batch written, rows: " + batch.size() + ", query: " + query);
+        }
+    }
+
+    private CypherToJson createCypherToJson() {
+        CypherToJson executer = new CypherToJson();
+        executer.setHost(getHost());
+        executer.setPath(getPath());
+        executer.setPort(getPort());
+        executer.setProtocol(getProtocol());
+        executer.setConnectTimeout(getConnectTimeout());
+        executer.setReadTimeout(getReadTimeout());
+        executer.setResultDataContents(CypherToJson.RESULT_DATA_CONTENT_ROW);
+        return executer;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * @param batchSize The maximum number of rows in one request and transaction
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * @param parallelism The maximum number of parallel requests for property updates
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public String getProtocol() {
+        return protocol;
+    }
+
+    public void setProtocol(String protocol) {
+        this.protocol = protocol;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public void setHost(String host) {
+        this.host = host;
+    }
+
+    public String getPort() {
+        return port;
+    }
+
+    public void setPort(String port) {
+        this.port = port;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public void setPath(String path) {
+        this.path = path;
+    }
+
+    public int getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public void setConnectTimeout(int connectTimeout) {
+        this.connectTimeout = connectTimeout;
+    }
+
+    public int getReadTimeout() {
+        return readTimeout;
+    }
+
+    public void setReadTimeout(int readTimeout) {
+        this.readTimeout = readTimeout;
+    }
+}
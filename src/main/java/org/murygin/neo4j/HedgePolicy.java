@@ -0,0 +1,118 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Configuration of hedged requests. If a request to the Neo4j 
+ * server is not answered after a delay, a duplicate request is sent to 
+ * the next host of this policy. The first response wins, all other requests 
+ * are cancelled.
+ * 
+ * The delay is the configured percentile of the latencies recorded 
+ * for recent requests. Until enough latencies are recorded the initial delay 
+ * is used.
+ * 
+ * Hedge read queries only. A write query is executed on every host
+ * which receives a duplicate.
+ * 
+ * A host is a name or address which is used with the port of the loader 
+ * or host:port, for example "replica1:7474".
+ * 
+ * A policy is thread safe. Share one instance between all loaders 
+ * which send requests to the same servers.
+ * 
+ * See: http://research.google.com/pubs/pub40801.html (The Tail at Scale)
+ */
+public class HedgePolicy {
+
+    public static final double DEFAULT_PERCENTILE = 0.95;
+    public static final long DEFAULT_INITIAL_DELAY = 100;
+    public static final int MIN_SAMPLES = 20;
+    
+    private static final int WINDOW_SIZE = 256;
+    
+    private List<String> hosts;
+    private double percentile = DEFAULT_PERCENTILE;
+    private long initialDelay = DEFAULT_INITIAL_DELAY;
+    
+    private final long[] latencies = new long[WINDOW_SIZE];
+    private int numberOfLatencies = 0;
+    private int nextLatency = 0;
+    
+    /**
+     * @param hosts Hosts which receive the duplicate requests in this order, 
+     *  a host may contain a port: host:port
+     */
+    public HedgePolicy(String... hosts) {
+        super();
+        this.hosts = Collections.unmodifiableList(Arrays.asList(hosts));
+    }
+    
+    /**
+     * Records the latency of a request. For a request which is 
+     * cancelled before it is answered, the elapsed time is recorded.
+     * 
+     * @param millis A latency in milliseconds
+     */
+    public synchronized void recordLatency(long millis) {
+        latencies[nextLatency] = millis;
+        nextLatency = (nextLatency + 1) % WINDOW_SIZE;
+        if (numberOfLatencies < WINDOW_SIZE) {
+            numberOfLatencies++;
+        }
+    }
+    
+    /**
+     * @return The delay in milliseconds after which a duplicate request is sent
+     */
+    public synchronized long getDelay() {
+        if (numberOfLatencies < MIN_SAMPLES) {
+            return initialDelay;
+        }
+        long[] sorted = Arrays.copyOf(latencies, numberOfLatencies);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * numberOfLatencies) - 1;
+        return sorted[Math.max(0, Math.min(index, numberOfLatencies - 1))];
+    }
+
+    public List<String> getHosts() {
+        return hosts;
+    }
+
+    public double getPercentile() {
+        return percentile;
+    }
+
+    public void setPercentile(double percentile) {
+        if (percentile <= 0 || percentile > 1) {
+            throw new IllegalArgumentException("Percentile must be in (0,1]: " + percentile);
+        }
+        this.percentile = percentile;
+    }
+
+    public long getInitialDelay() {
+        return initialDelay;
+    }
+
+    public void setInitialDelay(long initialDelay) {
+        this.initialDelay = initialDelay;
+    }
+}
@@ -19,6 +19,7 @@
  ******************************************************************************/
 package org.murygin.neo4j;
 
+import java.util.HashMap;
 import java.util.Map;
 
 /**
@@ -32,4 +33,26 @@ public interface IPropertyContainer {
     void addProperty(String key, String value);
     Map<String, String> getProperties();
     void setProperties(Map<String, String> properties);
+    
+    /**
+     * Adds a property with a JSON value: a string, number, boolean or array.
+     * Implementations may keep the type of the value.
+     */
+    default void addProperty(String key, Object value) {
+        addProperty(key, value.toString());
+    }
+    
+    /**
+     * @return The value of a property with the type it was added with or null
+     */
+    default Object getPropertyValue(String key) {
+        return getProperties().get(key);
+    }
+    
+    /**
+     * @return A copy of all properties with the types they were added with
+     */
+    default Map<String, Object> getPropertyValues() {
+        return new HashMap<String, Object>(getProperties());
+    }
 }
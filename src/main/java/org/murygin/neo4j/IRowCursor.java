@@ -0,0 +1,52 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j;
+
+import java.io.Closeable;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A cursor over the rows of a tabular Cypher query result. 
+ * {@link RowCursor} reads the rows of one response, a paged cursor 
+ * of a {@link Transaction} reads them by many requests.
+ */
+public interface IRowCursor extends Iterator<Row>, Closeable {
+
+    /**
+     * @return The columns of the result, available after the first call of hasNext()
+     */
+    List<String> getColumns();
+    
+    /**
+     * Closes the response which is read, the cursor has no next row afterwards.
+     */
+    @Override
+    void close();
+    
+    /**
+     * @return A sequential stream of the rows which closes this cursor when it is closed 
+     */
+    default Stream<Row> stream() {
+        Spliterator<Row> spliterator = Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+}
@@ -0,0 +1,153 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j;
+
+import java.util.Arrays;
+
+/**
+ * A hash map with primitive long keys and non-negative int values, 
+ * for example the index of a node by its numeric id. Keys and values are 
+ * stored in two arrays, collisions are resolved by linear probing. 
+ * Neither lookups nor updates allocate, values are not boxed.
+ * A slot with value -1 is empty.
+ * 
+ * The map is not synchronized.
+ * 
+ * See: {@link LongObjectMap}
+ */
+public class LongIntMap {
+
+    /**
+     * Returned by get(..) if a key is not in the map
+     */
+    public static final int NO_VALUE = -1;
+    
+    private static final int DEFAULT_CAPACITY = 64;
+    
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+    
+    public LongIntMap() {
+        this(DEFAULT_CAPACITY / 2);
+    }
+    
+    /**
+     * @param expectedSize The number of entries which fit without resizing
+     */
+    public LongIntMap(int expectedSize) {
+        super();
+        allocate(Math.max(DEFAULT_CAPACITY, Integer.highestOneBit(Math.max(1, expectedSize) * 2 - 1) * 2));
+    }
+    
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        Arrays.fill(values, NO_VALUE);
+        mask = capacity - 1;
+    }
+    
+    private int getSlot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+    
+    /**
+     * @return The value of the key or NO_VALUE
+     */
+    public int get(long key) {
+        int slot = getSlot(key);
+        while (values[slot] != NO_VALUE) {
+            if (keys[slot] == key) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return NO_VALUE;
+    }
+    
+    public boolean containsKey(long key) {
+        return get(key) != NO_VALUE;
+    }
+    
+    /**
+     * @param value A value >= 0
+     * @return The previous value of the key or NO_VALUE
+     */
+    public int put(long key, int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Value is negative: " + value);
+        }
+        int slot = getSlot(key);
+        while (values[slot] != NO_VALUE) {
+            if (keys[slot] == key) {
+                int previous = values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        // load factor 0.5 keeps probe sequences short
+        if (size > keys.length / 2) {
+            resize();
+        }
+        return NO_VALUE;
+    }
+    
+    private void resize() {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(keys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != NO_VALUE) {
+                int slot = getSlot(oldKeys[i]);
+                while (values[slot] != NO_VALUE) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * Removes all entries and releases the arrays if they have grown.
+     */
+    public void clear() {
+        if (keys.length > DEFAULT_CAPACITY) {
+            allocate(DEFAULT_CAPACITY);
+        } else {
+            Arrays.fill(values, NO_VALUE);
+        }
+        size = 0;
+    }
+    
+    /**
+     * @return The number of slots of the map
+     */
+    public int getCapacity() {
+        return keys.length;
+    }
+}
@@ -0,0 +1,164 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j;
+
+import java.util.Arrays;
+
+/**
+ * A hash map with primitive long keys and open addressing. Keys and 
+ * values are stored in two arrays, collisions are resolved by linear 
+ * probing. Lookups and updates of existing keys do not allocate. 
+ * Null values are not allowed, a slot with a null value is empty.
+ * 
+ * The map is not synchronized.
+ */
+public class LongObjectMap<V> {
+
+    private static final int DEFAULT_CAPACITY = 64;
+    
+    private long[] keys;
+    private Object[] values;
+    private int mask;
+    private int size;
+    
+    public LongObjectMap() {
+        super();
+        allocate(DEFAULT_CAPACITY);
+    }
+    
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+    }
+    
+    private int getSlot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+    
+    @SuppressWarnings("unchecked")
+    public V get(long key) {
+        int slot = getSlot(key);
+        while (values[slot] != null) {
+            if (keys[slot] == key) {
+                return (V) values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+    
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+    
+    /**
+     * @return The previous value of the key or null
+     */
+    @SuppressWarnings("unchecked")
+    public V put(long key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Value is null");
+        }
+        int slot = getSlot(key);
+        while (values[slot] != null) {
+            if (keys[slot] == key) {
+                V previous = (V) values[slot];
+                values[slot] = value;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+        // load factor 0.5 keeps probe sequences short
+        if (size > keys.length / 2) {
+            resize();
+        }
+        return null;
+    }
+    
+    private void resize() {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        allocate(keys.length * 2);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = getSlot(oldKeys[i]);
+                while (values[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    /**
+     * @return The number of slots of the map
+     */
+    public int getCapacity() {
+        return keys.length;
+    }
+    
+    /**
+     * Removes all entries and releases the arrays if they have grown.
+     */
+    public void clear() {
+        if (keys.length > DEFAULT_CAPACITY) {
+            allocate(DEFAULT_CAPACITY);
+        } else {
+            Arrays.fill(values, null);
+        }
+        size = 0;
+    }
+    
+    /**
+     * Parses an id of a Neo4j node or relationship without allocating.
+     * An id with leading zeros is not parsed, it would collide with the id 
+     * without zeros.
+     * 
+     * @param id An id
+     * @return The id as long or -1 if the id is not a non-negative number
+     */
+    public static long parseId(String id) {
+        // Long.MAX_VALUE has 19 digits
+        if (id == null || id.isEmpty() || id.length() > 19 || (id.charAt(0) == '0' && id.length() > 1)) {
+            return -1;
+        }
+        long value = 0;
+        for (int i = 0; i < id.length(); i++) {
+            char c = id.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            int digit = c - '0';
+            if (value > (Long.MAX_VALUE - digit) / 10) {
+                // overflow
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j;
+
+/**
+ * Limits for the memory used by a graph load. The size of a buffered 
+ * response is counted in bytes while it is read. The size of a graph 
+ * is counted in nodes, edges and estimated bytes while it is built 
+ * (see {@link GraphFootprint}). A limit of 0 means no limit. 
+ * 
+ * If a limit is exceeded a {@link MemoryBudgetExceededException} is thrown. 
+ * If partial results are allowed, a graph load stops and returns 
+ * the incomplete graph instead. Row cursors read responses as streams, 
+ * the response limit does not apply to them.
+ * 
+ * The response limit is a limit of the size on the wire. A buffered 
+ * response takes about twice its size as string and the parsed JSON 
+ * tree takes a multiple of that, e.g. 5 to 10 times the response size 
+ * for a graph result. Set the limit accordingly or load large results 
+ * with executeStreaming(..) or executePaged(..), which keep one data 
+ * entry at a time, and bound the graph with maxGraphBytes.
+ * 
+ * Getting started:
+ * 
+ * MemoryBudget budget = new MemoryBudget();
+ * budget.setMaxGraphBytes(512 * 1024 * 1024);
+ * budget.setMaxResponseBytes(256 * 1024 * 1024);
+ * graphLoader.setMemoryBudget(budget);
+ */
+public class MemoryBudget {
+
+    private long maxResponseBytes = 0;
+    private long maxGraphBytes = 0;
+    private long maxNodes = 0;
+    private long maxEdges = 0;
+    private boolean partialResults = false;
+    
+    /**
+     * Checks if a graph exceeds a limit after adding elements.
+     * 
+     * @param footprint The current size of the graph
+     * @param nodes Number of nodes to add
+     * @param edges Number of edges to add
+     * @param bytes Estimated bytes to add
+     */
+    public void check(GraphFootprint footprint, long nodes, long edges, long bytes) {
+        if (maxNodes > 0 && footprint.getNumberOfNodes() + nodes > maxNodes) {
+            throw new MemoryBudgetExceededException("Maximum number of nodes exceeded: " + maxNodes);
+        }
+        if (maxEdges > 0 && footprint.getNumberOfEdges() + edges > maxEdges) {
+            throw new MemoryBudgetExceededException("Maximum number of edges exceeded: " + maxEdges);
+        }
+        if (maxGraphBytes > 0 && footprint.getEstimatedBytes() + bytes > maxGraphBytes) {
+            throw new MemoryBudgetExceededException("Maximum estimated graph size exceeded: " + maxGraphBytes + " bytes");
+        }
+    }
+
+    public long getMaxResponseBytes() {
+        return maxResponseBytes;
+    }
+
+    /**
+     * @param maxResponseBytes The maximum size of a buffered response in bytes 
+     *  as read from the connection, not the size of the parsed response
+     */
+    public void setMaxResponseBytes(long maxResponseBytes) {
+        this.maxResponseBytes = maxResponseBytes;
+    }
+
+    public long getMaxGraphBytes() {
+        return maxGraphBytes;
+    }
+
+    /**
+     * @param maxGraphBytes The maximum estimated size of a graph in bytes
+     */
+    public void setMaxGraphBytes(long maxGraphBytes) {
+        this.maxGraphBytes = maxGraphBytes;
+    }
+
+    public long getMaxNodes() {
+        return maxNodes;
+    }
+
+    public void setMaxNodes(long maxNodes) {
+        this.maxNodes = maxNodes;
+    }
+
+    public long getMaxEdges() {
+        return maxEdges;
+    }
+
+    public void setMaxEdges(long maxEdges) {
+        this.maxEdges = maxEdges;
+    }
+
+    public boolean isPartialResults() {
+        return partialResults;
+    }
+
+    /**
+     * @param partialResults true if a graph load returns an incomplete 
+     *  graph when a limit is exceeded, false if it throws an exception
+     */
+    public void setPartialResults(boolean partialResults) {
+        this.partialResults = partialResults;
+    }
+}
@@ -19,10 +19,8 @@
  ******************************************************************************/
 package org.murygin.neo4j;
 
-import java.util.Hashtable;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 
 /**
  * Data model class - A node is the JGraphT generic node type 
@@ -31,27 +29,21 @@ import java.util.Map;
  * 
  * @author Daniel Murygin daniel.murygin@gmail.com
  */
-public class Node implements IPropertyContainer {
+public class Node extends PropertyContainer {
 
     private String id;
     private List<String> labels;
-    private Map<String, String> properties;
     
     public Node(String id) {
         super();
         this.id = id;
         labels = new LinkedList<String>();
-        properties = new Hashtable<String, String>();
     }
     
     public void addLabel(String label) {
         labels.add(label);
     }
     
-    public void addProperty(String key, String value) {
-        properties.put(key, value);
-    }
-    
     public String getId() {
         return id;
     }
@@ -64,15 +56,6 @@ public class Node implements IPropertyContainer {
     public void setLabels(List<String> labels) {
         this.labels = labels;
     }
-    public Map<String, String> getProperties() {
-        return properties;
-    }
-    public String getProperty(String key) {
-        return getProperties().get(key);
-    }
-    public void setProperties(Map<String, String> properties) {
-        this.properties = properties;
-    }
 
     @Override
     public int hashCode() {
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * A cursor which reads the result of a query in pages within 
+ * a {@link Transaction}. A page is requested when the previous 
+ * page is read completely. The last page is the first page 
+ * with less rows than the page size.
+ * 
+ * Pages are selected by SKIP and LIMIT or by a key column
+ * (keyset pagination). Keyset pagination is faster for large
+ * results, the server does not have to skip all previous rows.
+ */
+class PagedRowCursor implements IRowCursor {
+
+    public static final String PAGE_CLAUSE = " SKIP {skip} LIMIT {limit}";
+    public static final String PARAMETER_SKIP = "skip";
+    public static final String PARAMETER_AFTER = "after";
+    public static final String PARAMETER_LIMIT = "limit";
+    
+    private Transaction transaction;
+    private String query;
+    private String keyColumn;
+    private int pageSize;
+    
+    private RowCursor page;
+    private int rowsInPage = 0;
+    private long skip = 0;
+    private long after = -1;
+    private boolean last = false;
+    
+    PagedRowCursor(Transaction transaction, String query, String keyColumn, int pageSize) {
+        super();
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be greater than 0: " + pageSize);
+        }
+        this.transaction = transaction;
+        this.query = query;
+        this.keyColumn = keyColumn;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (true) {
+            if (page != null && page.hasNext()) {
+                return true;
+            }
+            if (page != null) {
+                page.close();
+                page = null;
+                last = rowsInPage < pageSize;
+            }
+            if (last) {
+                return false;
+            }
+            openPage();
+        }
+    }
+
+    @Override
+    public Row next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Row row = page.next();
+        rowsInPage++;
+        skip++;
+        if (keyColumn != null) {
+            after = row.getLong(keyColumn);
+        }
+        return row;
+    }
+
+    private void openPage() {
+        Map<String, Object> parameters = new HashMap<String, Object>();
+        parameters.put(PARAMETER_LIMIT, pageSize);
+        if (keyColumn != null) {
+            parameters.put(PARAMETER_AFTER, after);
+        } else {
+            parameters.put(PARAMETER_SKIP, skip);
+        }
+        page = transaction.openCursor(query, parameters);
+        rowsInPage = 0;
+    }
+
+    @Override
+    public List<String> getColumns() {
+        return (page != null) ? page.getColumns() : null;
+    }
+
+    @Override
+    public void close() {
+        last = true;
+        if (page != null) {
+            page.close();
+            page = null;
+        }
+    }
+}
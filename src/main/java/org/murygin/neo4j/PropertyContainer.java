@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j;
+
+import java.util.HashMap;
+import java.util.Hashtable;
+import java.util.Map;
+
+/**
+ * Base class of {@link Node} and {@link Edge} which keeps the properties. 
+ * Every property is kept as string, values which are not strings are 
+ * additionally kept with their JSON type. The typed value is valid as
+ * long as the string in the property map is not changed.
+ */
+public abstract class PropertyContainer implements IPropertyContainer {
+
+    private Map<String, String> properties;
+    // Values of properties which are not strings, created on demand
+    private Map<String, Object> propertyValues;
+    
+    protected PropertyContainer() {
+        super();
+        properties = new Hashtable<String, String>();
+    }
+    
+    @Override
+    public void addProperty(String key, String value) {
+        properties.put(key, value);
+        removePropertyValue(key);
+    }
+
+    /**
+     * Adds a property with a JSON value: a string, number, boolean or array.
+     * The value is kept with its type, getProperties() contains it as string.
+     */
+    @Override
+    public void addProperty(String key, Object value) {
+        properties.put(key, value.toString());
+        if (value instanceof String) {
+            removePropertyValue(key);
+        } else {
+            if (propertyValues == null) {
+                propertyValues = new Hashtable<String, Object>();
+            }
+            propertyValues.put(key, value);
+        }
+    }
+    
+    public String getProperty(String key) {
+        return properties.get(key);
+    }
+    
+    @Override
+    public Object getPropertyValue(String key) {
+        String value = properties.get(key);
+        Object typedValue = (value != null && propertyValues != null) ? propertyValues.get(key) : null;
+        // the string is returned if it was changed in the property map
+        return (typedValue != null && typedValue.toString().equals(value)) ? typedValue : value;
+    }
+    
+    @Override
+    public Map<String, Object> getPropertyValues() {
+        Map<String, Object> values = new HashMap<String, Object>();
+        for (String key : properties.keySet()) {
+            values.put(key, getPropertyValue(key));
+        }
+        return values;
+    }
+    
+    @Override
+    public Map<String, String> getProperties() {
+        return properties;
+    }
+    
+    @Override
+    public void setProperties(Map<String, String> properties) {
+        this.properties = properties;
+        propertyValues = null;
+    }
+    
+    private void removePropertyValue(String key) {
+        if (propertyValues != null) {
+            propertyValues.remove(key);
+        }
+    }
+}
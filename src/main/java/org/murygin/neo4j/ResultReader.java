@@ -0,0 +1,298 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.ContentHandler;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+
+/**
+ * Reads the JSON result of a Neo4j transaction request
+ * one data entry at a time from a stream:
+ * 
+ * {"results":[{"columns":[..],"data":[{"row":[..],"graph":{..}}, ..]}],"errors":[..]}
+ * 
+ * Only the current data entry is kept in memory. The parser is 
+ * paused after each entry and resumed by the next call of nextData().
+ * If the response contains errors a RuntimeException is thrown
+ * after the last data entry. If reading fails because a {@link Deadline} 
+ * is exceeded or cancelled, a {@link QueryCancelledException} is thrown.
+ */
+public class ResultReader implements Closeable {
+
+    // Depth of the containers in the result JSON, the root object has depth 1
+    private static final int DEPTH_ERRORS = 2;
+    private static final int DEPTH_COLUMNS = 4;
+    private static final int DEPTH_DATA_ENTRY = 5;
+    
+    private final Reader reader;
+    private final Closeable resource;
+    private final Deadline deadline;
+    private final JSONParser parser = new JSONParser();
+    private final Handler handler = new Handler();
+    private boolean started = false;
+    private boolean finished = false;
+    private boolean closed = false;
+    
+    /**
+     * @param in The stream of the response 
+     * @param resource A resource which is closed with this reader or null
+     */
+    public ResultReader(InputStream in, Closeable resource) {
+        this(in, resource, null);
+    }
+    
+    /**
+     * @param in The stream of the response 
+     * @param resource A resource which is closed with this reader or null
+     * @param deadline The deadline of the request or null
+     */
+    ResultReader(InputStream in, Closeable resource, Deadline deadline) {
+        super();
+        this.reader = new InputStreamReader(in, StandardCharsets.UTF_8);
+        this.resource = resource;
+        this.deadline = deadline;
+    }
+    
+    /**
+     * @return The next data entry or null if there are no more entries 
+     */
+    public JSONObject nextData() {
+        if (closed) {
+            return null;
+        }
+        handler.dataEntry = null;
+        while (handler.dataEntry == null && !finished) {
+            parse();
+        }
+        JSONObject dataEntry = handler.dataEntry;
+        handler.dataEntry = null;
+        if (dataEntry == null) {
+            close();
+            checkErrors();
+        }
+        return dataEntry;
+    }
+
+    private void parse() {
+        try {
+            parser.parse(reader, handler, started);
+            started = true;
+        } catch (IOException | RuntimeException e) {
+            close();
+            throw toException(new RuntimeException("Error while reading json", e));
+        } catch (ParseException e) {
+            close();
+            // an aborted response ends before the JSON is complete
+            throw toException(new RuntimeException("Error while parsing json at position: " + e.getPosition(), e));
+        }
+    }
+    
+    private RuntimeException toException(RuntimeException failure) {
+        return (deadline != null) ? deadline.toCancelledException(failure) : failure;
+    }
+    
+    private void checkErrors() {
+        if (!handler.errors.isEmpty()) {
+            throw new RuntimeException("Neo4j returned errors: " + handler.errors);
+        }
+    }
+    
+    /**
+     * @return The columns of the result, available after the first call of nextData()
+     */
+    public List<String> getColumns() {
+        return handler.columns;
+    }
+    
+    public boolean isClosed() {
+        return closed;
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            reader.close();
+        } catch (IOException e) {
+            // ignore, the response is released below
+        }
+        if (resource != null) {
+            try {
+                resource.close();
+            } catch (IOException e) {
+                throw new RuntimeException("Error while closing response", e);
+            }
+        }
+    }
+
+    /**
+     * Builds json-simple objects for columns, data entries and errors 
+     * and skips everything else.
+     */
+    @SuppressWarnings("unchecked")
+    private class Handler implements ContentHandler {
+        
+        private int depth = 0;
+        private final List<String> keys = new ArrayList<String>();
+        private final LinkedList<Object> stack = new LinkedList<Object>();
+        private int captureDepth = 0;
+        
+        private List<String> columns = Collections.emptyList();
+        private JSONObject dataEntry;
+        private final JSONArray errors = new JSONArray();
+        
+        @Override
+        public void startJSON() {
+        }
+
+        @Override
+        public void endJSON() {
+            finished = true;
+        }
+
+        @Override
+        public boolean startObject() {
+            depth++;
+            setKey(null);
+            if (isCapturing()) {
+                push(new JSONObject());
+            } else if (depth == DEPTH_DATA_ENTRY && "data".equals(getKey(depth - 2))) {
+                startCapture(new JSONObject());
+            }
+            return true;
+        }
+
+        @Override
+        public boolean endObject() {
+            return endContainer();
+        }
+
+        @Override
+        public boolean startObjectEntry(String key) {
+            setKey(key);
+            return true;
+        }
+
+        @Override
+        public boolean endObjectEntry() {
+            return true;
+        }
+
+        @Override
+        public boolean startArray() {
+            depth++;
+            if (isCapturing()) {
+                push(new JSONArray());
+            } else if (depth == DEPTH_COLUMNS && "columns".equals(getKey(depth - 1))) {
+                startCapture(new JSONArray());
+            } else if (depth == DEPTH_ERRORS && "errors".equals(getKey(depth - 1))) {
+                startCapture(errors);
+            }
+            return true;
+        }
+
+        @Override
+        public boolean endArray() {
+            return endContainer();
+        }
+
+        @Override
+        public boolean primitive(Object value) {
+            if (isCapturing()) {
+                add(value, getKey(depth));
+            }
+            return true;
+        }
+
+        private boolean endContainer() {
+            boolean proceed = true;
+            if (isCapturing()) {
+                Object value = stack.pop();
+                if (stack.isEmpty()) {
+                    proceed = endCapture(value);
+                }
+            }
+            depth--;
+            return proceed;
+        }
+
+        private void startCapture(Object container) {
+            captureDepth = depth;
+            stack.push(container);
+        }
+
+        private boolean endCapture(Object value) {
+            captureDepth = 0;
+            if (depth == DEPTH_DATA_ENTRY) {
+                dataEntry = (JSONObject) value;
+                // pause the parser, nextData() resumes
+                return false;
+            }
+            if (depth == DEPTH_COLUMNS) {
+                columns = Collections.unmodifiableList(new ArrayList<String>((JSONArray) value));
+            }
+            return true;
+        }
+
+        private boolean isCapturing() {
+            return captureDepth > 0;
+        }
+
+        private void push(Object container) {
+            // the key of an entry is stored at the depth of the enclosing object
+            add(container, getKey(depth - 1));
+            stack.push(container);
+        }
+
+        private void add(Object value, String key) {
+            Object parent = stack.peek();
+            if (parent instanceof JSONObject) {
+                ((JSONObject) parent).put(key, value);
+            } else {
+                ((JSONArray) parent).add(value);
+            }
+        }
+
+        private void setKey(String key) {
+            while (keys.size() <= depth) {
+                keys.add(null);
+            }
+            keys.set(depth, key);
+        }
+
+        private String getKey(int atDepth) {
+            return (atDepth >= 0 && atDepth < keys.size()) ? keys.get(atDepth) : null;
+        }
+    }
+}
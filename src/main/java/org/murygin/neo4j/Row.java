@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j;
+
+import java.util.List;
+import java.util.Map;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+
+/**
+ * Data model class - A row of a tabular Cypher query result.
+ * Values are accessed by column index or column name. 
+ * 
+ * Values are json-simple types: String, Long, Double, Boolean, 
+ * JSONObject (nodes, relationships and maps), JSONArray (lists) or null.
+ */
+public class Row {
+
+    private List<String> columns;
+    private Map<String, Integer> columnIndex;
+    private List<?> values;
+    
+    Row(List<String> columns, Map<String, Integer> columnIndex, List<?> values) {
+        super();
+        this.columns = columns;
+        this.columnIndex = columnIndex;
+        this.values = values;
+    }
+    
+    public List<String> getColumns() {
+        return columns;
+    }
+    
+    public int size() {
+        return values.size();
+    }
+    
+    public Object get(int index) {
+        return values.get(index);
+    }
+    
+    public Object get(String column) {
+        return get(getIndex(column));
+    }
+    
+    public String getString(int index) {
+        Object value = get(index);
+        return (value == null) ? null : value.toString();
+    }
+    
+    public String getString(String column) {
+        return getString(getIndex(column));
+    }
+    
+    public Long getLong(int index) {
+        Number value = getNumber(index);
+        return (value == null) ? null : value.longValue();
+    }
+    
+    public Long getLong(String column) {
+        return getLong(getIndex(column));
+    }
+    
+    public Double getDouble(int index) {
+        Number value = getNumber(index);
+        return (value == null) ? null : value.doubleValue();
+    }
+    
+    public Double getDouble(String column) {
+        return getDouble(getIndex(column));
+    }
+    
+    public Boolean getBoolean(int index) {
+        return (Boolean) get(index);
+    }
+    
+    public Boolean getBoolean(String column) {
+        return getBoolean(getIndex(column));
+    }
+    
+    public JSONObject getJson(int index) {
+        return (JSONObject) get(index);
+    }
+    
+    public JSONObject getJson(String column) {
+        return getJson(getIndex(column));
+    }
+    
+    public JSONArray getJsonArray(int index) {
+        return (JSONArray) get(index);
+    }
+    
+    public JSONArray getJsonArray(String column) {
+        return getJsonArray(getIndex(column));
+    }
+
+    private Number getNumber(int index) {
+        Object value = get(index);
+        if (value == null || value instanceof Number) {
+            return (Number) value;
+        }
+        return Double.valueOf(value.toString());
+    }
+
+    private int getIndex(String column) {
+        Integer index = columnIndex.get(column);
+        if (index == null) {
+            throw new IllegalArgumentException("Unknown column: " + column + ", columns: " + columns);
+        }
+        return index;
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return values.toString();
+    }
+}
@@ -0,0 +1,107 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+
+/**
+ * A cursor over the rows of a tabular Cypher query result. 
+ * Rows are decoded one at a time while the response is read. 
+ * The response is closed when the last row is read or close() is called.
+ * 
+ * Getting started:
+ * 
+ * try (Stream<Row> rows = executer.stream("MATCH (n:station) RETURN n.name AS name")) {
+ *     rows.forEach(row -> System.out.println(row.getString("name")));
+ * }
+ */
+public class RowCursor implements IRowCursor {
+
+    private ResultReader resultReader;
+    private Deadline deadline;
+    private Map<String, Integer> columnIndex;
+    private Row next;
+    
+    RowCursor(ResultReader resultReader, Deadline deadline) {
+        super();
+        this.resultReader = resultReader;
+        this.deadline = deadline;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !resultReader.isClosed()) {
+            next = readRow();
+        }
+        return next != null;
+    }
+
+    @Override
+    public Row next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Row row = next;
+        next = null;
+        return row;
+    }
+
+    private Row readRow() {
+        if (deadline != null) {
+            try {
+                deadline.check();
+            } catch (QueryCancelledException e) {
+                close();
+                throw e;
+            }
+        }
+        JSONObject dataEntry = resultReader.nextData();
+        if (dataEntry == null) {
+            return null;
+        }
+        JSONArray values = JsonResults.getJsonArray(dataEntry, "row");
+        return new Row(getColumns(), getColumnIndex(), values);
+    }
+    
+    @Override
+    public List<String> getColumns() {
+        return resultReader.getColumns();
+    }
+    
+    private Map<String, Integer> getColumnIndex() {
+        if (columnIndex == null) {
+            columnIndex = new HashMap<String, Integer>();
+            List<String> columns = getColumns();
+            for (int i = 0; i < columns.size(); i++) {
+                columnIndex.put(columns.get(i), i);
+            }
+        }
+        return columnIndex;
+    }
+    
+    @Override
+    public void close() {
+        next = null;
+        resultReader.close();
+    }
+}
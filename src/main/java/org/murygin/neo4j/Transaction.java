@@ -0,0 +1,267 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j;
+
+import java.io.Closeable;
+import java.util.Map;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.sun.jersey.api.client.Client;
+import com.sun.jersey.api.client.ClientResponse;
+
+/**
+ * An open transaction on a Neo4j server. All queries of a transaction
+ * are executed by successive requests to the transaction endpoint. 
+ * Every request keeps the transaction alive. Call keepAlive() 
+ * if there is a long break between two requests.
+ * 
+ * Large results are read in pages by openPagedCursor(..) or 
+ * openKeysetCursor(..). Each page is a request of its own, the server 
+ * never has to build the whole result in memory.
+ * 
+ * Getting started:
+ * 
+ * try (Transaction transaction = executer.beginTransaction()) {
+ *     IRowCursor rows = transaction.openKeysetCursor(
+ *         "MATCH (n) WHERE id(n) > {after} RETURN id(n) AS id, n ORDER BY id(n) LIMIT {limit}", "id", 10000);
+ *     while (rows.hasNext()) { .. }
+ *     transaction.commit();
+ * }
+ * 
+ * Requests of a transaction must not overlap. Read or close a cursor 
+ * before the next request is sent. A transaction is not thread safe.
+ * 
+ * See: http://neo4j.com/docs/stable/rest-api-transactional.html
+ */
+public class Transaction implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(Transaction.class);
+    
+    private static final String EMPTY_STATEMENTS = "{\"statements\":[]}";
+    
+    private CypherToJson executer;
+    private String uri;
+    private String expires;
+    private boolean open = false;
+    
+    Transaction(CypherToJson executer) {
+        super();
+        this.executer = executer;
+    }
+    
+    void begin() {
+        Client client = executer.createClient(executer.getDeadline());
+        try {
+            String beginUri = executer.createUri(executer.getHost(), executer.getTransactionPath());
+            ClientResponse response = executer.post(client, beginUri, EMPTY_STATEMENTS);
+            try {
+                if (response.getLocation() == null) {
+                    throw new RuntimeException("No transaction location returned by: " + beginUri);
+                }
+                uri = response.getLocation().toString();
+                open = true;
+                handleResult(response.getEntity(String.class));
+            } finally {
+                response.close();
+            }
+        } finally {
+            client.destroy();
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Transaction started: " + uri);
+        }
+    }
+
+    /**
+     * Executes a Cypher query in this transaction. The result contains the
+     * result data contents configured in the {@link CypherToJson} which began 
+     * this transaction.
+     * 
+     * @param query a Cypher query
+     * @return The result of the query as simple-json object
+     */
+    public JSONObject execute(String query) {
+        return execute(query, null);
+    }
+    
+    /**
+     * Executes a Cypher query with parameters in this transaction.
+     * 
+     * @param query a Cypher query
+     * @param parameters Parameters of the query or null
+     * @return The result of the query as simple-json object
+     */
+    public JSONObject execute(String query, Map<String, Object> parameters) {
+        return request(uri, executer.createJsonString(query, parameters, executer.getResultDataContents()));
+    }
+    
+    /**
+     * Executes a Cypher query in this transaction and returns a cursor over 
+     * the rows of the result. Read or close the cursor before the next request.
+     * 
+     * @param query a Cypher query
+     * @param parameters Parameters of the query or null
+     * @return A cursor over the rows of the result
+     */
+    public RowCursor openCursor(String query, Map<String, Object> parameters) {
+        checkOpen();
+        return executer.openCursor(uri, executer.createJsonString(query, parameters, CypherToJson.RESULT_DATA_CONTENT_ROW));
+    }
+    
+    /**
+     * Reads the result of a query in pages by SKIP and LIMIT. 
+     * " SKIP {skip} LIMIT {limit}" is appended to the query. The query 
+     * needs an ORDER BY clause to return stable pages.
+     * 
+     * @param query a Cypher query without SKIP and LIMIT
+     * @param pageSize The number of rows in a page
+     * @return A cursor over all rows of the result
+     */
+    public IRowCursor openPagedCursor(String query, int pageSize) {
+        return new PagedRowCursor(this, query + PagedRowCursor.PAGE_CLAUSE, null, pageSize);
+    }
+    
+    /**
+     * Reads the result of a query in pages by keyset pagination. The query 
+     * must use the parameters {after} and {limit} and return the rows ordered 
+     * by a numeric key column, e.g.:
+     * 
+     * MATCH (n) WHERE id(n) > {after} RETURN id(n) AS id, n ORDER BY id(n) LIMIT {limit}
+     * 
+     * @param query a Cypher query with parameters {after} and {limit}
+     * @param keyColumn The name of the key column 
+     * @param pageSize The number of rows in a page
+     * @return A cursor over all rows of the result
+     */
+    public IRowCursor openKeysetCursor(String query, String keyColumn, int pageSize) {
+        return new PagedRowCursor(this, query, keyColumn, pageSize);
+    }
+    
+    /**
+     * Resets the timeout of this transaction on the server.
+     */
+    public void keepAlive() {
+        request(uri, EMPTY_STATEMENTS);
+    }
+    
+    /**
+     * Commits this transaction.
+     */
+    public void commit() {
+        request(uri + "/commit", EMPTY_STATEMENTS);
+        open = false;
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Transaction committed: " + uri);
+        }
+    }
+    
+    /**
+     * Rolls back this transaction.
+     */
+    public void rollback() {
+        checkOpen();
+        open = false;
+        Client client = executer.createClient(null);
+        try {
+            ClientResponse response = client.resource(uri).delete(ClientResponse.class);
+            response.close();
+            if (response.getStatus() != 200) {
+                throw new RuntimeException("Rollback failed : HTTP error code : " + response.getStatus());
+            }
+        } finally {
+            client.destroy();
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Transaction rolled back: " + uri);
+        }
+    }
+    
+    /**
+     * Rolls back this transaction if it is still open.
+     */
+    @Override
+    public void close() {
+        if (open) {
+            rollback();
+        }
+    }
+    
+    public boolean isOpen() {
+        return open;
+    }
+    
+    /**
+     * @return The URI of this transaction
+     */
+    public String getUri() {
+        return uri;
+    }
+    
+    /**
+     * @return The expiry date of this transaction as returned by the server
+     */
+    public String getExpires() {
+        return expires;
+    }
+
+    private JSONObject request(String requestUri, String requestJson) {
+        checkOpen();
+        Client client = executer.createClient(executer.getDeadline());
+        try {
+            ClientResponse response = executer.post(client, requestUri, requestJson);
+            try {
+                return handleResult(executer.readEntity(response));
+            } finally {
+                response.close();
+            }
+        } finally {
+            client.destroy();
+        }
+    }
+
+    private JSONObject handleResult(String jsonString) {
+        JSONObject json;
+        try {
+            json = (JSONObject) new JSONParser().parse(jsonString);
+        } catch (ParseException e) {
+            throw new RuntimeException("Error while parsing json: " + jsonString, e);
+        }
+        JSONObject transaction = JsonResults.getJson(json, "transaction");
+        if (transaction != null) {
+            expires = (String) transaction.get("expires");
+        }
+        JSONArray errors = JsonResults.getJsonArray(json, "errors");
+        if (errors != null && !errors.isEmpty()) {
+            // Neo4j rolls back a transaction if a statement fails
+            open = false;
+            throw new RuntimeException("Neo4j returned errors: " + errors);
+        }
+        return json;
+    }
+    
+    private void checkOpen() {
+        if (!open) {
+            throw new IllegalStateException("Transaction is not open: " + uri);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j.alg;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * The distribution of node degrees of a graph: The number 
+ * of nodes by degree, minimum, maximum and mean degree.
+ */
+public class DegreeDistribution {
+
+    /**
+     * The edges counted as degree of a node
+     */
+    public enum Direction {
+        IN, OUT, BOTH
+    }
+    
+    private Direction direction;
+    private SortedMap<Integer, Long> histogram = new TreeMap<Integer, Long>();
+    private long numberOfNodes = 0;
+    private long sum = 0;
+    
+    DegreeDistribution(Direction direction) {
+        super();
+        this.direction = direction;
+    }
+    
+    void add(int degree) {
+        histogram.merge(degree, 1L, Long::sum);
+        numberOfNodes++;
+        sum += degree;
+    }
+    
+    void merge(DegreeDistribution other) {
+        for (Map.Entry<Integer, Long> entry : other.histogram.entrySet()) {
+            histogram.merge(entry.getKey(), entry.getValue(), Long::sum);
+        }
+        numberOfNodes += other.numberOfNodes;
+        sum += other.sum;
+    }
+    
+    public Direction getDirection() {
+        return direction;
+    }
+    
+    /**
+     * @return The number of nodes by degree
+     */
+    public SortedMap<Integer, Long> getHistogram() {
+        return Collections.unmodifiableSortedMap(histogram);
+    }
+    
+    public long getNumberOfNodes() {
+        return numberOfNodes;
+    }
+    
+    public int getMin() {
+        return histogram.isEmpty() ? 0 : histogram.firstKey();
+    }
+    
+    public int getMax() {
+        return histogram.isEmpty() ? 0 : histogram.lastKey();
+    }
+    
+    public double getMean() {
+        return (numberOfNodes == 0) ? 0 : (double) sum / numberOfNodes;
+    }
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#toString()
+     */
+    @Override
+    public String toString() {
+        return direction + " degree, min: " + getMin() + ", max: " + getMax() + ", mean: " + getMean() + ", histogram: " + histogram;
+    }
+}
@@ -0,0 +1,264 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j.alg;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.IntConsumer;
+import java.util.function.IntToDoubleFunction;
+import java.util.stream.IntStream;
+
+import org.jgrapht.DirectedGraph;
+import org.murygin.neo4j.Edge;
+import org.murygin.neo4j.Node;
+
+/**
+ * Parallel whole graph analytics: PageRank, weakly connected components 
+ * and degree distributions. All algorithms work on an int indexed 
+ * snapshot of the graph ({@link IndexedGraph}) and use the workers 
+ * of a fork-join pool. Results are arrays by node index and can be 
+ * written back as node properties.
+ * 
+ * Getting started:
+ * 
+ * GraphAnalytics analytics = new GraphAnalytics(graph);
+ * analytics.writeProperty("rank", analytics.pageRank());
+ * analytics.writeComponents("component", analytics.weaklyConnectedComponents());
+ */
+public class GraphAnalytics {
+
+    public static final double DEFAULT_DAMPING = 0.85;
+    public static final int DEFAULT_MAX_ITERATIONS = 100;
+    public static final double DEFAULT_TOLERANCE = 1e-9;
+    
+    private final IndexedGraph graph;
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+    
+    public GraphAnalytics(DirectedGraph<Node, Edge> graph) {
+        this(IndexedGraph.create(graph));
+    }
+    
+    public GraphAnalytics(IndexedGraph graph) {
+        super();
+        this.graph = graph;
+    }
+    
+    /**
+     * Computes PageRank with default damping, iterations and tolerance.
+     * 
+     * @return The PageRank by node index, the ranks sum up to 1
+     */
+    public double[] pageRank() {
+        return pageRank(DEFAULT_DAMPING, DEFAULT_MAX_ITERATIONS, DEFAULT_TOLERANCE);
+    }
+    
+    /**
+     * Computes PageRank by power iteration. The rank of nodes without 
+     * outgoing edges is distributed to all nodes. Parallel edges count
+     * as separate links.
+     * 
+     * @param damping The damping factor, usually 0.85
+     * @param maxIterations The maximum number of iterations
+     * @param tolerance Iteration stops if the sum of all rank changes is smaller
+     * @return The PageRank by node index, the ranks sum up to 1
+     */
+    public double[] pageRank(double damping, int maxIterations, double tolerance) {
+        final int n = graph.getNumberOfNodes();
+        if (n == 0) {
+            return new double[0];
+        }
+        final double[] inverseOutDegree = new double[n];
+        parallel(v -> inverseOutDegree[v] = (graph.getOutDegree(v) == 0) ? 0 : 1.0 / graph.getOutDegree(v));
+        double[] rank = new double[n];
+        double[] next = new double[n];
+        Arrays.fill(rank, 1.0 / n);
+        for (int iteration = 0; iteration < maxIterations; iteration++) {
+            final double[] current = rank;
+            final double[] updated = next;
+            double dangling = parallelSum(v -> (graph.getOutDegree(v) == 0) ? current[v] : 0);
+            final double base = (1 - damping) / n + damping * dangling / n;
+            parallel(v -> {
+                double sum = 0;
+                for (int slot = graph.getInStart(v); slot < graph.getInEnd(v); slot++) {
+                    int u = graph.getInSource(slot);
+                    sum += current[u] * inverseOutDegree[u];
+                }
+                updated[v] = base + damping * sum;
+            });
+            double delta = parallelSum(v -> Math.abs(updated[v] - current[v]));
+            rank = updated;
+            next = current;
+            if (delta < tolerance) {
+                break;
+            }
+        }
+        return rank;
+    }
+    
+    /**
+     * Computes the weakly connected components by a concurrent union-find 
+     * over all edges. The direction of edges is ignored.
+     * 
+     * @return The component by node index, the component is the index 
+     *  of the component node with the smallest index 
+     */
+    public int[] weaklyConnectedComponents() {
+        final int n = graph.getNumberOfNodes();
+        final AtomicIntegerArray parents = new AtomicIntegerArray(n);
+        parallel(v -> parents.set(v, v));
+        parallel(v -> {
+            for (int slot = graph.getOutStart(v); slot < graph.getOutEnd(v); slot++) {
+                union(parents, v, graph.getOutTarget(slot));
+            }
+        });
+        final int[] components = new int[n];
+        parallel(v -> components[v] = find(parents, v));
+        return components;
+    }
+
+    private static void union(AtomicIntegerArray parents, int a, int b) {
+        while (true) {
+            int rootA = find(parents, a);
+            int rootB = find(parents, b);
+            if (rootA == rootB) {
+                return;
+            }
+            // link the larger root to the smaller one, so no cycles are created 
+            int high = Math.max(rootA, rootB);
+            int low = Math.min(rootA, rootB);
+            if (parents.compareAndSet(high, high, low)) {
+                return;
+            }
+        }
+    }
+
+    private static int find(AtomicIntegerArray parents, int v) {
+        while (true) {
+            int parent = parents.get(v);
+            if (parent == v) {
+                return v;
+            }
+            int grandParent = parents.get(parent);
+            if (parent != grandParent) {
+                // path halving
+                parents.compareAndSet(v, parent, grandParent);
+            }
+            v = grandParent;
+        }
+    }
+    
+    /**
+     * @param components The result of weaklyConnectedComponents()
+     * @return The number of components
+     */
+    public static int countComponents(int[] components) {
+        int count = 0;
+        for (int v = 0; v < components.length; v++) {
+            if (components[v] == v) {
+                count++;
+            }
+        }
+        return count;
+    }
+    
+    /**
+     * @param direction The edges to count
+     * @return The degree by node index
+     */
+    public int[] degrees(DegreeDistribution.Direction direction) {
+        final int[] degrees = new int[graph.getNumberOfNodes()];
+        parallel(v -> degrees[v] = getDegree(v, direction));
+        return degrees;
+    }
+    
+    /**
+     * @param direction The edges to count
+     * @return The distribution of the degrees of all nodes
+     */
+    public DegreeDistribution degreeDistribution(DegreeDistribution.Direction direction) {
+        return pool.submit(() -> IntStream.range(0, graph.getNumberOfNodes()).parallel()
+                .collect(() -> new DegreeDistribution(direction), 
+                        (distribution, v) -> distribution.add(getDegree(v, direction)), 
+                        DegreeDistribution::merge)).join();
+    }
+
+    private int getDegree(int v, DegreeDistribution.Direction direction) {
+        switch (direction) {
+        case IN:
+            return graph.getInDegree(v);
+        case OUT:
+            return graph.getOutDegree(v);
+        default:
+            return graph.getInDegree(v) + graph.getOutDegree(v);
+        }
+    }
+    
+    /**
+     * Sets a property of all nodes.
+     * 
+     * @param key The property key
+     * @param values Values by node index
+     */
+    public void writeProperty(String key, double[] values) {
+        parallel(v -> graph.getNode(v).addProperty(key, (Object) values[v]));
+    }
+    
+    /**
+     * Sets a property of all nodes.
+     * 
+     * @param key The property key
+     * @param values Values by node index
+     */
+    public void writeProperty(String key, int[] values) {
+        parallel(v -> graph.getNode(v).addProperty(key, (Object) values[v]));
+    }
+    
+    /**
+     * Sets the component of all nodes as property. The value is the 
+     * id of the node which represents the component.
+     * 
+     * @param key The property key
+     * @param components The result of weaklyConnectedComponents()
+     */
+    public void writeComponents(String key, int[] components) {
+        parallel(v -> graph.getNode(v).addProperty(key, graph.getNode(components[v]).getId()));
+    }
+
+    private void parallel(IntConsumer action) {
+        pool.submit(() -> IntStream.range(0, graph.getNumberOfNodes()).parallel().forEach(action)).join();
+    }
+
+    private double parallelSum(IntToDoubleFunction function) {
+        return pool.submit(() -> IntStream.range(0, graph.getNumberOfNodes()).parallel().mapToDouble(function).sum()).join();
+    }
+    
+    public IndexedGraph getGraph() {
+        return graph;
+    }
+
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * @param pool The fork-join pool which executes the algorithms, default is the common pool
+     */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+}
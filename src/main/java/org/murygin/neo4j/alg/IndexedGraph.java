@@ -0,0 +1,329 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j.alg;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+import org.jgrapht.DirectedGraph;
+import org.murygin.neo4j.Edge;
+import org.murygin.neo4j.FrozenGraph;
+import org.murygin.neo4j.LongIntMap;
+import org.murygin.neo4j.LongObjectMap;
+import org.murygin.neo4j.Node;
+
+/**
+ * An int indexed snapshot of a graph for algorithms. Nodes are numbered 
+ * from 0 to n-1. Edges are stored in arrays in compressed sparse row format 
+ * sorted by source and target node: The outgoing edges of node i are the 
+ * slots offsets[i] to offsets[i+1]-1. Incoming edges are stored the same way 
+ * sorted by target and source node, an incoming slot refers to the slot 
+ * of the edge. A single edge between two nodes is found by binary search.
+ * 
+ * Nodes and edges with a numeric id are indexed by a {@link LongIntMap}.
+ * 
+ * The snapshot does not change if the graph is changed. It is immutable 
+ * and can be shared between threads. A {@link FrozenGraph} is a view 
+ * on a snapshot, create(..) returns the snapshot of a frozen graph 
+ * without copying it.
+ */
+public class IndexedGraph {
+
+    private final Node[] nodes;
+    private final LongIntMap nodeIndexes;
+    private final Map<Node, Integer> otherNodeIndexes;
+    
+    private final Edge[] edges;
+    private final LongIntMap edgeIndexes;
+    private final Map<Edge, Integer> otherEdgeIndexes;
+    private final int[] sources;
+    private final int[] targets;
+    private final double[] weights;
+    
+    private final int[] outOffsets;
+    private final int[] inOffsets;
+    private final int[] inSlots;
+    
+    private IndexedGraph(DirectedGraph<Node, Edge> graph, ToDoubleFunction<Edge> weightFunction) {
+        int numberOfNodes = graph.vertexSet().size();
+        int numberOfEdges = graph.edgeSet().size();
+        nodes = new Node[numberOfNodes];
+        nodeIndexes = new LongIntMap(numberOfNodes);
+        otherNodeIndexes = new HashMap<Node, Integer>();
+        int index = 0;
+        for (Node node : graph.vertexSet()) {
+            nodes[index] = node;
+            long numericId = LongObjectMap.parseId(node.getId());
+            if (numericId >= 0) {
+                nodeIndexes.put(numericId, index);
+            } else {
+                otherNodeIndexes.put(node, index);
+            }
+            index++;
+        }
+        Edge[] unsorted = new Edge[numberOfEdges];
+        int[] unsortedSources = new int[numberOfEdges];
+        int[] unsortedTargets = new int[numberOfEdges];
+        index = 0;
+        for (Edge edge : graph.edgeSet()) {
+            unsorted[index] = edge;
+            unsortedSources[index] = getIndex(graph.getEdgeSource(edge));
+            unsortedTargets[index] = getIndex(graph.getEdgeTarget(edge));
+            index++;
+        }
+        // two stable counting sorts: by target, then by source
+        outOffsets = new int[numberOfNodes + 1];
+        int[] order = sort(identity(numberOfEdges), unsortedTargets, new int[numberOfNodes + 1]);
+        order = sort(order, unsortedSources, outOffsets);
+        edges = new Edge[numberOfEdges];
+        edgeIndexes = new LongIntMap(numberOfEdges);
+        otherEdgeIndexes = new HashMap<Edge, Integer>();
+        sources = new int[numberOfEdges];
+        targets = new int[numberOfEdges];
+        weights = new double[numberOfEdges];
+        for (int slot = 0; slot < numberOfEdges; slot++) {
+            Edge edge = unsorted[order[slot]];
+            edges[slot] = edge;
+            long numericId = LongObjectMap.parseId(edge.getId());
+            if (numericId >= 0) {
+                edgeIndexes.put(numericId, slot);
+            } else {
+                otherEdgeIndexes.put(edge, slot);
+            }
+            sources[slot] = unsortedSources[order[slot]];
+            targets[slot] = unsortedTargets[order[slot]];
+            weights[slot] = weightFunction.applyAsDouble(edge);
+        }
+        // edges are sorted by source, a stable sort by target orders incoming edges by target and source
+        inOffsets = new int[numberOfNodes + 1];
+        inSlots = sort(identity(numberOfEdges), targets, inOffsets);
+    }
+    
+    /**
+     * Creates a snapshot which shares everything but the weights with another snapshot.
+     */
+    private IndexedGraph(IndexedGraph other, ToDoubleFunction<Edge> weightFunction) {
+        nodes = other.nodes;
+        nodeIndexes = other.nodeIndexes;
+        otherNodeIndexes = other.otherNodeIndexes;
+        edges = other.edges;
+        edgeIndexes = other.edgeIndexes;
+        otherEdgeIndexes = other.otherEdgeIndexes;
+        sources = other.sources;
+        targets = other.targets;
+        outOffsets = other.outOffsets;
+        inOffsets = other.inOffsets;
+        inSlots = other.inSlots;
+        weights = new double[edges.length];
+        for (int slot = 0; slot < edges.length; slot++) {
+            weights[slot] = weightFunction.applyAsDouble(edges[slot]);
+        }
+    }
+    
+    /**
+     * Creates a snapshot with the edge weights of the graph.
+     * 
+     * @param graph A graph
+     * @return An int indexed snapshot of the graph
+     */
+    public static IndexedGraph create(DirectedGraph<Node, Edge> graph) {
+        if (graph instanceof FrozenGraph) {
+            return ((FrozenGraph) graph).getIndexedGraph();
+        }
+        return new IndexedGraph(graph, graph::getEdgeWeight);
+    }
+    
+    /**
+     * @param graph A graph
+     * @param weights A function which returns the weight of an edge
+     * @return An int indexed snapshot of the graph
+     */
+    public static IndexedGraph create(DirectedGraph<Node, Edge> graph, ToDoubleFunction<Edge> weights) {
+        if (graph instanceof FrozenGraph) {
+            return ((FrozenGraph) graph).getIndexedGraph().withWeights(weights);
+        }
+        return new IndexedGraph(graph, weights);
+    }
+    
+    /**
+     * @param weights A function which returns the weight of an edge
+     * @return A snapshot with other weights which shares all other arrays with this snapshot
+     */
+    public IndexedGraph withWeights(ToDoubleFunction<Edge> weights) {
+        return new IndexedGraph(this, weights);
+    }
+    
+    private static int[] identity(int length) {
+        int[] array = new int[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = i;
+        }
+        return array;
+    }
+    
+    /**
+     * Stable counting sort of an order by keys.
+     * 
+     * @param order Indexes of the keys
+     * @param keys Keys from 0 to offsets.length-2
+     * @param offsets Filled with the start of each key in the sorted order
+     * @return The order sorted by keys
+     */
+    private static int[] sort(int[] order, int[] keys, int[] offsets) {
+        for (int i : order) {
+            offsets[keys[i] + 1]++;
+        }
+        for (int key = 1; key < offsets.length; key++) {
+            offsets[key] += offsets[key - 1];
+        }
+        int[] next = new int[offsets.length];
+        System.arraycopy(offsets, 0, next, 0, offsets.length);
+        int[] sorted = new int[order.length];
+        for (int i : order) {
+            sorted[next[keys[i]]++] = i;
+        }
+        return sorted;
+    }
+    
+    public int getNumberOfNodes() {
+        return nodes.length;
+    }
+    
+    public int getNumberOfEdges() {
+        return edges.length;
+    }
+    
+    public Node getNode(int index) {
+        return nodes[index];
+    }
+    
+    /**
+     * @param node A node of the graph
+     * @return The index of the node or -1 if the node is not part of the graph
+     */
+    public int getIndex(Object node) {
+        if (!(node instanceof Node)) {
+            return -1;
+        }
+        long numericId = LongObjectMap.parseId(((Node) node).getId());
+        if (numericId >= 0) {
+            return nodeIndexes.get(numericId);
+        }
+        Integer index = otherNodeIndexes.get(node);
+        return (index == null) ? -1 : index;
+    }
+    
+    /**
+     * @param edge An edge of the graph
+     * @return The slot of the edge or -1 if the edge is not part of the graph
+     */
+    public int getSlot(Object edge) {
+        if (!(edge instanceof Edge)) {
+            return -1;
+        }
+        long numericId = LongObjectMap.parseId(((Edge) edge).getId());
+        if (numericId >= 0) {
+            return edgeIndexes.get(numericId);
+        }
+        Integer slot = otherEdgeIndexes.get(edge);
+        return (slot == null) ? -1 : slot;
+    }
+    
+    /**
+     * @return The first slot of an edge from source to target or -1 
+     */
+    public int findSlot(int source, int target) {
+        int low = outOffsets[source];
+        int high = outOffsets[source + 1] - 1;
+        int found = -1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            if (targets[middle] < target) {
+                low = middle + 1;
+            } else {
+                if (targets[middle] == target) {
+                    found = middle;
+                }
+                high = middle - 1;
+            }
+        }
+        return found;
+    }
+    
+    public int getOutDegree(int node) {
+        return outOffsets[node + 1] - outOffsets[node];
+    }
+    
+    public int getInDegree(int node) {
+        return inOffsets[node + 1] - inOffsets[node];
+    }
+    
+    public int getOutStart(int node) {
+        return outOffsets[node];
+    }
+    
+    public int getOutEnd(int node) {
+        return outOffsets[node + 1];
+    }
+    
+    /**
+     * @return The source node of the edge in an outgoing slot
+     */
+    public int getOutSource(int slot) {
+        return sources[slot];
+    }
+    
+    public int getOutTarget(int slot) {
+        return targets[slot];
+    }
+    
+    public Edge getOutEdge(int slot) {
+        return edges[slot];
+    }
+    
+    public double getOutWeight(int slot) {
+        return weights[slot];
+    }
+    
+    public int getInStart(int node) {
+        return inOffsets[node];
+    }
+    
+    public int getInEnd(int node) {
+        return inOffsets[node + 1];
+    }
+    
+    /**
+     * @return The outgoing slot of the edge in an incoming slot
+     */
+    public int getInSlot(int slot) {
+        return inSlots[slot];
+    }
+    
+    public int getInSource(int slot) {
+        return sources[inSlots[slot]];
+    }
+    
+    public Edge getInEdge(int slot) {
+        return edges[inSlots[slot]];
+    }
+    
+    public double getInWeight(int slot) {
+        return weights[inSlots[slot]];
+    }
+}
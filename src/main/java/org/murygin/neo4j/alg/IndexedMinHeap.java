@@ -0,0 +1,124 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j.alg;
+
+import java.util.Arrays;
+
+/**
+ * A binary min heap of int elements 0..n-1 with double keys 
+ * and a decrease key operation. Used by the shortest path searches.
+ */
+class IndexedMinHeap {
+
+    private final int[] heap;
+    private final int[] positions;
+    private final double[] keys;
+    private int size = 0;
+    
+    IndexedMinHeap(int capacity) {
+        heap = new int[capacity];
+        positions = new int[capacity];
+        keys = new double[capacity];
+        Arrays.fill(positions, -1);
+    }
+    
+    boolean isEmpty() {
+        return size == 0;
+    }
+    
+    double getMinKey() {
+        return keys[heap[0]];
+    }
+    
+    /**
+     * Inserts an element or decreases its key if the new key is smaller.
+     */
+    void insertOrDecrease(int element, double key) {
+        int position = positions[element];
+        if (position < 0) {
+            keys[element] = key;
+            heap[size] = element;
+            positions[element] = size;
+            size++;
+            siftUp(size - 1);
+        } else if (key < keys[element]) {
+            keys[element] = key;
+            siftUp(position);
+        }
+    }
+    
+    int poll() {
+        int min = heap[0];
+        size--;
+        positions[min] = -1;
+        if (size > 0) {
+            heap[0] = heap[size];
+            positions[heap[0]] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+    
+    /**
+     * Removes all elements.
+     */
+    void clear() {
+        for (int i = 0; i < size; i++) {
+            positions[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int position) {
+        int element = heap[position];
+        double key = keys[element];
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (keys[heap[parent]] <= key) {
+                break;
+            }
+            move(heap[parent], position);
+            position = parent;
+        }
+        move(element, position);
+    }
+
+    private void siftDown(int position) {
+        int element = heap[position];
+        double key = keys[element];
+        while (true) {
+            int child = 2 * position + 1;
+            if (child >= size) {
+                break;
+            }
+            if (child + 1 < size && keys[heap[child + 1]] < keys[heap[child]]) {
+                child++;
+            }
+            if (keys[heap[child]] >= key) {
+                break;
+            }
+            move(heap[child], position);
+            position = child;
+        }
+        move(element, position);
+    }
+
+    private void move(int element, int position) {
+        heap[position] = element;
+        positions[element] = position;
+    }
+}
@@ -0,0 +1,455 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j.alg;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jgrapht.DirectedGraph;
+import org.murygin.neo4j.Edge;
+import org.murygin.neo4j.Node;
+
+/**
+ * A landmark index for repeated shortest path queries on the same graph
+ * (ALT: A*, landmarks and triangle inequality).
+ * 
+ * For a small set of landmarks the distances from and to all nodes 
+ * are precomputed. By the triangle inequality these distances give 
+ * a lower bound of the distance between any two nodes. An A* search 
+ * with this lower bound visits only a small part of the graph.
+ * 
+ * Landmarks are selected by the farthest heuristic: Every new landmark is 
+ * the node farthest away from all landmarks selected so far. To search 
+ * from several landmarks in parallel the selection runs in rounds: Every 
+ * node belongs to the region of its nearest landmark, a round selects the 
+ * farthest node of each of the most distant regions. The number of 
+ * landmarks doubles from round to round. The distances to the landmarks 
+ * are computed in parallel.
+ * 
+ * Edge weights must not be negative. The index does not change 
+ * if the graph is changed, create a new index after changes. 
+ * Queries are thread safe.
+ * 
+ * Getting started:
+ * 
+ * LandmarkIndex index = LandmarkIndex.create(graph, 16);
+ * List<Edge> path = index.findPathBetween(start, destination);
+ * 
+ * See: Goldberg, Harrelson: Computing the Shortest Path: A* Search Meets Graph Theory
+ */
+public class LandmarkIndex {
+
+    public static final int DEFAULT_NUMBER_OF_LANDMARKS = 16;
+    
+    private final IndexedGraph graph;
+    private final int[] landmarks;
+    // distances from landmark l to node v: fromLandmark[l][v]
+    private final double[][] fromLandmark;
+    // distances from node v to landmark l: toLandmark[l][v]
+    private final double[][] toLandmark;
+    // arrays of finished searches, reused by the next searches
+    private final Queue<SearchState> searchStates;
+    
+    private LandmarkIndex(IndexedGraph graph, int[] landmarks, double[][] fromLandmark, double[][] toLandmark) {
+        super();
+        this.graph = graph;
+        this.landmarks = landmarks;
+        this.fromLandmark = fromLandmark;
+        this.toLandmark = toLandmark;
+        this.searchStates = new ConcurrentLinkedQueue<SearchState>();
+    }
+    
+    /**
+     * Creates an index with the edge weights of the graph.
+     * 
+     * @param graph A graph
+     * @param numberOfLandmarks The number of landmarks 
+     * @return A landmark index of the graph
+     */
+    public static LandmarkIndex create(DirectedGraph<Node, Edge> graph, int numberOfLandmarks) {
+        return create(IndexedGraph.create(graph), numberOfLandmarks);
+    }
+    
+    /**
+     * Creates an index with edge weights taken from an edge property. 
+     * Edges without this property have weight 1. Numbers are taken as they are, 
+     * strings are parsed, e.g. if the property was added as string.
+     * 
+     * @param graph A graph
+     * @param numberOfLandmarks The number of landmarks 
+     * @param weightProperty The key of the edge property with the weight
+     * @return A landmark index of the graph
+     * @throws IllegalArgumentException If the weight of an edge is not a number
+     */
+    public static LandmarkIndex create(DirectedGraph<Node, Edge> graph, int numberOfLandmarks, String weightProperty) {
+        return create(IndexedGraph.create(graph, edge -> getWeight(edge, weightProperty)), numberOfLandmarks);
+    }
+    
+    /**
+     * @param graph An int indexed graph
+     * @param numberOfLandmarks The number of landmarks 
+     * @return A landmark index of the graph
+     */
+    public static LandmarkIndex create(IndexedGraph graph, int numberOfLandmarks) {
+        checkWeights(graph);
+        int n = graph.getNumberOfNodes();
+        List<Integer> selected = new ArrayList<Integer>();
+        List<double[]> fromLandmarks = new ArrayList<double[]>();
+        List<CompletableFuture<double[]>> toLandmarks = new LinkedList<CompletableFuture<double[]>>();
+        if (n > 0) {
+            // the first landmark is the node farthest away from an arbitrary node
+            double[] minDistances = computeDistances(graph, 0, true);
+            // the landmark nearest to a node, -1 if the node is not reachable from a landmark
+            int[] region = new int[n];
+            Arrays.fill(region, -1);
+            List<Integer> next = selectFarthest(minDistances, region, Math.min(1, numberOfLandmarks));
+            while (!next.isEmpty()) {
+                List<CompletableFuture<double[]>> searches = new ArrayList<CompletableFuture<double[]>>(next.size());
+                for (Integer landmark : next) {
+                    searches.add(CompletableFuture.supplyAsync(() -> computeDistances(graph, landmark, true)));
+                    toLandmarks.add(CompletableFuture.supplyAsync(() -> computeDistances(graph, landmark, false)));
+                }
+                for (int i = 0; i < next.size(); i++) {
+                    double[] distances = searches.get(i).join();
+                    if (selected.isEmpty()) {
+                        // the distances from the arbitrary node are replaced
+                        Arrays.fill(minDistances, Double.POSITIVE_INFINITY);
+                    }
+                    for (int v = 0; v < n; v++) {
+                        if (distances[v] < minDistances[v]) {
+                            minDistances[v] = distances[v];
+                            region[v] = selected.size();
+                        }
+                    }
+                    selected.add(next.get(i));
+                    fromLandmarks.add(distances);
+                }
+                next = selectFarthest(minDistances, region, Math.min(selected.size(), numberOfLandmarks - selected.size()));
+            }
+        }
+        int[] landmarks = new int[selected.size()];
+        double[][] from = new double[selected.size()][];
+        double[][] to = new double[selected.size()][];
+        for (int l = 0; l < landmarks.length; l++) {
+            landmarks[l] = selected.get(l);
+            from[l] = fromLandmarks.get(l);
+            to[l] = toLandmarks.get(l).join();
+        }
+        return new LandmarkIndex(graph, landmarks, from, to);
+    }
+
+    private static double getWeight(Edge edge, String weightProperty) {
+        Object weight = edge.getPropertyValue(weightProperty);
+        if (weight == null) {
+            return 1.0;
+        }
+        if (weight instanceof Number) {
+            return ((Number) weight).doubleValue();
+        }
+        if (weight instanceof String) {
+            try {
+                return Double.parseDouble((String) weight);
+            } catch (NumberFormatException e) {
+                // thrown below
+            }
+        }
+        throw new IllegalArgumentException("Weight of relationship " + edge + " is not a number, property: " + weightProperty + ", value: " + weight);
+    }
+
+    private static void checkWeights(IndexedGraph graph) {
+        for (int slot = 0; slot < graph.getNumberOfEdges(); slot++) {
+            if (graph.getOutWeight(slot) < 0) {
+                throw new IllegalArgumentException("Negative edge weight: " + graph.getOutEdge(slot));
+            }
+        }
+    }
+
+    /**
+     * Selects the farthest node of each region, at most max nodes 
+     * of the regions with the largest distances.
+     * 
+     * @return The selected nodes, an empty list if all distances are 0 
+     */
+    private static List<Integer> selectFarthest(double[] distances, int[] region, int max) {
+        Map<Integer, Integer> farthest = new HashMap<Integer, Integer>();
+        for (int v = 0; v < distances.length; v++) {
+            if (distances[v] > 0) {
+                Integer current = farthest.get(region[v]);
+                if (current == null || distances[v] > distances[current]) {
+                    farthest.put(region[v], v);
+                }
+            }
+        }
+        List<Integer> nodes = new ArrayList<Integer>(farthest.values());
+        // largest distance first, ties are broken by the index to keep the selection stable
+        nodes.sort((v, w) -> (distances[v] != distances[w]) ? Double.compare(distances[w], distances[v]) : Integer.compare(v, w));
+        return (nodes.size() > max) ? nodes.subList(0, Math.max(max, 0)) : nodes;
+    }
+
+    /**
+     * Dijkstra search from (forward) or to (backward) a node.
+     */
+    static double[] computeDistances(IndexedGraph graph, int node, boolean forward) {
+        double[] distances = new double[graph.getNumberOfNodes()];
+        Arrays.fill(distances, Double.POSITIVE_INFINITY);
+        IndexedMinHeap heap = new IndexedMinHeap(graph.getNumberOfNodes());
+        distances[node] = 0;
+        heap.insertOrDecrease(node, 0);
+        while (!heap.isEmpty()) {
+            int v = heap.poll();
+            int start = forward ? graph.getOutStart(v) : graph.getInStart(v);
+            int end = forward ? graph.getOutEnd(v) : graph.getInEnd(v);
+            for (int slot = start; slot < end; slot++) {
+                int w = forward ? graph.getOutTarget(slot) : graph.getInSource(slot);
+                double distance = distances[v] + (forward ? graph.getOutWeight(slot) : graph.getInWeight(slot));
+                if (distance < distances[w]) {
+                    distances[w] = distance;
+                    heap.insertOrDecrease(w, distance);
+                }
+            }
+        }
+        return distances;
+    }
+    
+    /**
+     * Finds the shortest path between two nodes.
+     * 
+     * @param source The start node
+     * @param target The destination node
+     * @return The edges of the shortest path or null if there is no path
+     */
+    public List<Edge> findPathBetween(Node source, Node target) {
+        int s = getIndex(source);
+        int t = getIndex(target);
+        SearchState state = acquireSearchState();
+        try {
+            if (!search(state, s, t)) {
+                return null;
+            }
+            LinkedList<Edge> path = new LinkedList<Edge>();
+            for (int v = t; v != s; v = state.parentNode[v]) {
+                path.addFirst(graph.getOutEdge(state.parentSlot[v]));
+            }
+            return path;
+        } finally {
+            searchStates.offer(state);
+        }
+    }
+    
+    /**
+     * Finds the shortest paths between many pairs of nodes in parallel.
+     * 
+     * @param sources The start nodes
+     * @param targets The destination nodes, targets.get(i) is the destination of sources.get(i)
+     * @return The shortest paths by pair, null for pairs without path
+     */
+    public List<List<Edge>> findPathsBetween(List<Node> sources, List<Node> targets) {
+        if (sources.size() != targets.size()) {
+            throw new IllegalArgumentException("Number of sources and targets differ: " + sources.size() + ", " + targets.size());
+        }
+        return IntStream.range(0, sources.size()).parallel()
+                .mapToObj(i -> findPathBetween(sources.get(i), targets.get(i)))
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * @param source The start node
+     * @param target The destination node
+     * @return The length of the shortest path or Double.POSITIVE_INFINITY if there is no path
+     */
+    public double getDistance(Node source, Node target) {
+        int t = getIndex(target);
+        SearchState state = acquireSearchState();
+        try {
+            return search(state, getIndex(source), t) ? state.distances[t] : Double.POSITIVE_INFINITY;
+        } finally {
+            searchStates.offer(state);
+        }
+    }
+    
+    /**
+     * @return The arrays of a finished search or new arrays if all are in use
+     */
+    private SearchState acquireSearchState() {
+        SearchState state = searchStates.poll();
+        return (state != null) ? state : new SearchState(graph.getNumberOfNodes());
+    }
+    
+    /**
+     * @param node A node
+     * @param target The destination node
+     * @return A lower bound of the distance between the nodes
+     */
+    public double getLowerBound(Node node, Node target) {
+        return getLowerBound(getIndex(node), getIndex(target));
+    }
+
+    private double getLowerBound(int v, int t) {
+        double bound = 0;
+        for (int l = 0; l < landmarks.length; l++) {
+            double[] from = fromLandmark[l];
+            double[] to = toLandmark[l];
+            if (from[v] != Double.POSITIVE_INFINITY) {
+                if (from[t] == Double.POSITIVE_INFINITY) {
+                    // v is reachable from the landmark, t is not: t is not reachable from v
+                    return Double.POSITIVE_INFINITY;
+                }
+                bound = Math.max(bound, from[t] - from[v]);
+            }
+            if (to[t] != Double.POSITIVE_INFINITY) {
+                if (to[v] == Double.POSITIVE_INFINITY) {
+                    // the landmark is reachable from t but not from v: t is not reachable from v
+                    return Double.POSITIVE_INFINITY;
+                }
+                bound = Math.max(bound, to[v] - to[t]);
+            }
+        }
+        return bound;
+    }
+    
+    /**
+     * A* search from s to t with the landmark lower bounds.
+     * 
+     * @return true if t is reachable from s
+     */
+    private boolean search(SearchState state, int s, int t) {
+        state.reset();
+        IndexedMinHeap heap = state.heap;
+        state.setDistance(s, 0);
+        heap.insertOrDecrease(s, getLowerBound(s, t));
+        boolean found = false;
+        try {
+            while (!heap.isEmpty()) {
+                if (heap.getMinKey() == Double.POSITIVE_INFINITY) {
+                    break;
+                }
+                int v = heap.poll();
+                if (v == t) {
+                    found = true;
+                    break;
+                }
+                state.closed[v] = state.generation;
+                for (int slot = graph.getOutStart(v); slot < graph.getOutEnd(v); slot++) {
+                    int w = graph.getOutTarget(slot);
+                    if (state.closed[w] == state.generation) {
+                        continue;
+                    }
+                    double distance = state.distances[v] + graph.getOutWeight(slot);
+                    if (distance < state.getDistance(w)) {
+                        state.setDistance(w, distance);
+                        state.parentSlot[w] = slot;
+                        state.parentNode[w] = v;
+                        heap.insertOrDecrease(w, distance + state.getLowerBound(w, t));
+                    }
+                }
+            }
+        } finally {
+            heap.clear();
+        }
+        return found;
+    }
+
+    private int getIndex(Node node) {
+        int index = graph.getIndex(node);
+        if (index < 0) {
+            throw new IllegalArgumentException("Node is not part of the graph: " + node);
+        }
+        return index;
+    }
+    
+    /**
+     * @return The landmarks of this index
+     */
+    public List<Node> getLandmarks() {
+        List<Node> nodes = new ArrayList<Node>(landmarks.length);
+        for (int landmark : landmarks) {
+            nodes.add(graph.getNode(landmark));
+        }
+        return Collections.unmodifiableList(nodes);
+    }
+    
+    public IndexedGraph getGraph() {
+        return graph;
+    }
+
+    /**
+     * Arrays of an A* search. The arrays are used by one search at a time 
+     * and reused by the next search, a generation number marks valid entries.
+     * The pool holds at most one state per concurrent query and is released 
+     * with the index.
+     */
+    private class SearchState {
+        
+        private int generation = 0;
+        private final int[] visited;
+        private final int[] closed;
+        private final int[] bounded;
+        private final double[] distances;
+        private final double[] bounds;
+        private final int[] parentSlot;
+        private final int[] parentNode;
+        private final IndexedMinHeap heap;
+        
+        SearchState(int n) {
+            visited = new int[n];
+            closed = new int[n];
+            bounded = new int[n];
+            distances = new double[n];
+            bounds = new double[n];
+            parentSlot = new int[n];
+            parentNode = new int[n];
+            heap = new IndexedMinHeap(n);
+        }
+        
+        void reset() {
+            if (generation == Integer.MAX_VALUE) {
+                Arrays.fill(visited, 0);
+                Arrays.fill(closed, 0);
+                Arrays.fill(bounded, 0);
+                generation = 0;
+            }
+            generation++;
+        }
+        
+        double getDistance(int v) {
+            return (visited[v] == generation) ? distances[v] : Double.POSITIVE_INFINITY;
+        }
+        
+        void setDistance(int v, double distance) {
+            visited[v] = generation;
+            distances[v] = distance;
+        }
+        
+        double getLowerBound(int v, int t) {
+            if (bounded[v] != generation) {
+                bounded[v] = generation;
+                bounds[v] = LandmarkIndex.this.getLowerBound(v, t);
+            }
+            return bounds[v];
+        }
+    }
+}
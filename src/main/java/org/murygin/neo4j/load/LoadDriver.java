@@ -0,0 +1,365 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j.load;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.murygin.neo4j.CypherToJGraphT;
+import org.murygin.neo4j.CypherToJson;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Replays a workload of Cypher queries against Neo4j and reports 
+ * throughput, latency percentiles, bytes, garbage collections and 
+ * the allocation rate. Queries are executed by a number of threads 
+ * with {@link CypherToJson} or {@link CypherToJGraphT}.
+ * 
+ * With a rate the queries are sent on a fixed schedule and the latency 
+ * is measured from the scheduled time, so a slow server is not hidden 
+ * by waiting threads. Without a rate every thread sends the next query 
+ * as soon as the previous one is finished.
+ * 
+ * Usage: LoadDriver [options]
+ * 
+ * --queries FILE      A file with one query per line, lines starting with // are skipped
+ * --host HOST         Neo4j host, default: localhost
+ * --port PORT         Neo4j port, default: 7474
+ * --mode MODE         json, graph or stream, default: json
+ * --concurrency N     Number of threads, default: 4
+ * --rate N            Queries per second of all threads, default: unlimited
+ * --duration S        Duration in seconds, default: 10
+ * --stub              Run against a local {@link StubNeo4jServer}
+ * --stub-nodes N      Number of nodes of the synthetic stub result
+ * --stub-response F   A file with a recorded response of the stub
+ */
+public class LoadDriver {
+
+    private static final Logger LOG = LoggerFactory.getLogger(LoadDriver.class);
+    
+    public enum Mode {
+        /** Executes queries with CypherToJson */
+        JSON, 
+        /** Loads graphs with CypherToJGraphT.execute(..) */
+        GRAPH, 
+        /** Loads graphs with CypherToJGraphT.executeStreaming(..) */
+        STREAM
+    }
+    
+    public static final int DEFAULT_CONCURRENCY = 4;
+    public static final int DEFAULT_DURATION_SECONDS = 10;
+    
+    private String host = CypherToJson.DEFAULT_HOST;
+    private String port = CypherToJson.DEFAULT_PORT;
+    private List<String> queries = new LinkedList<String>();
+    private Mode mode = Mode.JSON;
+    private int concurrency = DEFAULT_CONCURRENCY;
+    private double rate = 0;
+    private long durationNanos = TimeUnit.SECONDS.toNanos(DEFAULT_DURATION_SECONDS);
+    
+    private LatencyHistogram latencies;
+    private AtomicLong tickets;
+    private AtomicLong errors;
+    private AtomicLong responseBytes;
+    private AtomicLong graphBytes;
+    private AtomicLong allocatedBytes;
+    private long start;
+    private long end;
+
+    public static void main(String[] args) throws Exception {
+        LoadDriver driver = new LoadDriver();
+        StubNeo4jServer stub = null;
+        for (int i = 0; i < args.length; i++) {
+            String option = args[i];
+            if ("--stub".equals(option)) {
+                stub = new StubNeo4jServer(0);
+                continue;
+            }
+            if (i + 1 >= args.length) {
+                usage("Missing value of option: " + option);
+            }
+            String value = args[++i];
+            switch (option) {
+            case "--queries": driver.loadQueries(value); break;
+            case "--host": driver.setHost(value); break;
+            case "--port": driver.setPort(value); break;
+            case "--mode": driver.setMode(Mode.valueOf(value.toUpperCase())); break;
+            case "--concurrency": driver.setConcurrency(Integer.parseInt(value)); break;
+            case "--rate": driver.setRate(Double.parseDouble(value)); break;
+            case "--duration": driver.setDuration(Long.parseLong(value), TimeUnit.SECONDS); break;
+            case "--stub-nodes": 
+                stub = (stub != null) ? stub : new StubNeo4jServer(0);
+                stub.setNumberOfNodes(Integer.parseInt(value)); 
+                break;
+            case "--stub-response": 
+                stub = (stub != null) ? stub : new StubNeo4jServer(0);
+                stub.loadRecordedResponse(value); 
+                break;
+            default: usage("Unknown option: " + option);
+            }
+        }
+        if (driver.getQueries().isEmpty()) {
+            driver.setQueries(Collections.singletonList(CypherToJson.DEFAULT_QUERY));
+        }
+        if (stub != null) {
+            stub.start();
+            driver.setHost("127.0.0.1");
+            driver.setPort(String.valueOf(stub.getPort()));
+        }
+        try {
+            System.out.println(driver.run());
+        } finally {
+            if (stub != null) {
+                stub.stop();
+            }
+        }
+    }
+    
+    private static void usage(String message) {
+        System.err.println(message);
+        System.err.println("Usage: LoadDriver [--queries FILE] [--host HOST] [--port PORT] [--mode json|graph|stream] "
+                + "[--concurrency N] [--rate N] [--duration S] [--stub] [--stub-nodes N] [--stub-response FILE]");
+        System.exit(1);
+    }
+    
+    /**
+     * Runs the load test and blocks until it is finished.
+     * 
+     * @return The result of the test
+     */
+    public LoadReport run() {
+        if (queries.isEmpty()) {
+            throw new IllegalStateException("No queries to replay");
+        }
+        latencies = new LatencyHistogram();
+        tickets = new AtomicLong();
+        errors = new AtomicLong();
+        responseBytes = new AtomicLong();
+        graphBytes = new AtomicLong();
+        allocatedBytes = new AtomicLong();
+        long gcCount = getGcCount();
+        long gcMillis = getGcMillis();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        start = System.nanoTime();
+        end = start + durationNanos;
+        try {
+            List<Future<?>> futures = new ArrayList<Future<?>>(concurrency);
+            for (int i = 0; i < concurrency; i++) {
+                futures.add(workers.submit(new Worker()));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Load test interrupted", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Error in load test", e.getCause());
+        } finally {
+            workers.shutdownNow();
+        }
+        LoadReport report = new LoadReport(latencies);
+        report.setElapsedNanos(System.nanoTime() - start);
+        report.setErrors(errors.get());
+        report.setResponseBytes(responseBytes.get());
+        report.setGraphBytes(graphBytes.get());
+        report.setGcCount(getGcCount() - gcCount);
+        report.setGcMillis(getGcMillis() - gcMillis);
+        report.setAllocatedBytes((getAllocatedBytes() >= 0) ? allocatedBytes.get() : -1);
+        return report;
+    }
+    
+    private static long getGcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(0, gc.getCollectionCount());
+        }
+        return count;
+    }
+    
+    private static long getGcMillis() {
+        long millis = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            millis += Math.max(0, gc.getCollectionTime());
+        }
+        return millis;
+    }
+    
+    /**
+     * @return The bytes allocated by the current thread or -1 if the JVM does not support this
+     */
+    private static long getAllocatedBytes() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        if (threadBean instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean sunThreadBean = (com.sun.management.ThreadMXBean) threadBean;
+            if (sunThreadBean.isThreadAllocatedMemorySupported() && sunThreadBean.isThreadAllocatedMemoryEnabled()) {
+                return sunThreadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+            }
+        }
+        return -1;
+    }
+    
+    private class Worker implements Runnable {
+        
+        private CypherToJson executer;
+        
+        @Override
+        public void run() {
+            long allocatedAtStart = getAllocatedBytes();
+            long interval = (rate > 0) ? (long) (1e9 / rate) : 0;
+            while (true) {
+                long ticket = tickets.getAndIncrement();
+                long scheduled = (interval > 0) ? start + ticket * interval : System.nanoTime();
+                if (scheduled >= end || Thread.currentThread().isInterrupted()) {
+                    break;
+                }
+                long wait;
+                while ((wait = scheduled - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                String query = queries.get((int) (ticket % queries.size()));
+                try {
+                    execute(query);
+                    latencies.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduled));
+                } catch (RuntimeException e) {
+                    errors.incrementAndGet();
+                    LOG.debug("Query failed: " + query, e);
+                }
+            }
+            if (allocatedAtStart >= 0) {
+                allocatedBytes.addAndGet(getAllocatedBytes() - allocatedAtStart);
+            }
+        }
+        
+        private void execute(String query) {
+            if (mode == Mode.JSON) {
+                if (executer == null) {
+                    executer = new CypherToJson();
+                    executer.setHost(host);
+                    executer.setPort(port);
+                    executer.setResponseByteCounter(responseBytes);
+                }
+                executer.execute(query);
+                return;
+            }
+            // a loader adds every result to its graph, use a new one for each query
+            CypherToJGraphT graphLoader = new CypherToJGraphT();
+            graphLoader.setHost(host);
+            graphLoader.setPort(port);
+            graphLoader.setResponseByteCounter(responseBytes);
+            if (mode == Mode.STREAM) {
+                graphLoader.executeStreaming(query);
+            } else {
+                graphLoader.execute(query);
+            }
+            graphBytes.addAndGet(graphLoader.getFootprint().getEstimatedBytes());
+        }
+    }
+    
+    /**
+     * @param file A file with one query per line, lines starting with // are skipped
+     */
+    public void loadQueries(String file) throws IOException {
+        List<String> queryList = new ArrayList<String>();
+        for (String line : Files.readAllLines(Paths.get(file), StandardCharsets.UTF_8)) {
+            String query = line.trim();
+            if (!query.isEmpty() && !query.startsWith("//")) {
+                queryList.add(query);
+            }
+        }
+        setQueries(queryList);
+    }
+
+    public List<String> getQueries() {
+        return queries;
+    }
+
+    public void setQueries(List<String> queries) {
+        this.queries = new ArrayList<String>(queries);
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public void setHost(String host) {
+        this.host = host;
+    }
+
+    public String getPort() {
+        return port;
+    }
+
+    public void setPort(String port) {
+        this.port = port;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public void setMode(Mode mode) {
+        this.mode = mode;
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * @param concurrency The number of threads which execute queries
+     */
+    public void setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public double getRate() {
+        return rate;
+    }
+
+    /**
+     * @param rate Queries per second of all threads, 0 for no limit
+     */
+    public void setRate(double rate) {
+        this.rate = rate;
+    }
+
+    public void setDuration(long duration, TimeUnit unit) {
+        this.durationNanos = unit.toNanos(duration);
+    }
+    
+    public long getDurationNanos() {
+        return durationNanos;
+    }
+}
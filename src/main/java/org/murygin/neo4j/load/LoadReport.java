@@ -0,0 +1,151 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j.load;
+
+/**
+ * The result of a load test run by {@link LoadDriver}.
+ */
+public class LoadReport {
+
+    private static final double MB = 1024 * 1024;
+    
+    private LatencyHistogram latencies;
+    private long errors;
+    private long elapsedNanos;
+    private long responseBytes;
+    private long graphBytes;
+    private long gcCount;
+    private long gcMillis;
+    private long allocatedBytes = -1;
+    
+    LoadReport(LatencyHistogram latencies) {
+        super();
+        this.latencies = latencies;
+    }
+    
+    /**
+     * @return Completed queries per second
+     */
+    public double getThroughput() {
+        return (elapsedNanos == 0) ? 0 : getCompleted() / getElapsedSeconds();
+    }
+    
+    public double getElapsedSeconds() {
+        return elapsedNanos / 1e9;
+    }
+    
+    /**
+     * @return Allocated megabytes per second or -1 if the JVM does not support this
+     */
+    public double getAllocationRate() {
+        return (allocatedBytes < 0 || elapsedNanos == 0) ? -1 : allocatedBytes / MB / getElapsedSeconds();
+    }
+    
+    public long getCompleted() {
+        return latencies.getCount();
+    }
+
+    public LatencyHistogram getLatencies() {
+        return latencies;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    void setErrors(long errors) {
+        this.errors = errors;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    void setElapsedNanos(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * @return The size of all response bodies in bytes as read from the connection
+     */
+    public long getResponseBytes() {
+        return responseBytes;
+    }
+
+    void setResponseBytes(long responseBytes) {
+        this.responseBytes = responseBytes;
+    }
+
+    /**
+     * @return The estimated size of all loaded graphs in bytes
+     */
+    public long getGraphBytes() {
+        return graphBytes;
+    }
+
+    void setGraphBytes(long graphBytes) {
+        this.graphBytes = graphBytes;
+    }
+
+    public long getGcCount() {
+        return gcCount;
+    }
+
+    void setGcCount(long gcCount) {
+        this.gcCount = gcCount;
+    }
+
+    public long getGcMillis() {
+        return gcMillis;
+    }
+
+    void setGcMillis(long gcMillis) {
+        this.gcMillis = gcMillis;
+    }
+
+    /**
+     * @return Bytes allocated by the worker threads or -1 if the JVM does not support this
+     */
+    public long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    void setAllocatedBytes(long allocatedBytes) {
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Queries:     %d completed, %d errors in %.1f s%n", getCompleted(), getErrors(), getElapsedSeconds()));
+        sb.append(String.format("Throughput:  %.1f queries/s%n", getThroughput()));
+        sb.append(String.format("Latency ms:  p50 %.2f, p99 %.2f, p999 %.2f, max %.2f, mean %.2f%n", 
+                latencies.getPercentile(50) / 1e3, latencies.getPercentile(99) / 1e3, 
+                latencies.getPercentile(99.9) / 1e3, latencies.getMax() / 1e3, latencies.getMean() / 1e3));
+        if (responseBytes > 0) {
+            sb.append(String.format("Responses:   %.1f MB, %.1f MB/s%n", responseBytes / MB, responseBytes / MB / getElapsedSeconds()));
+        }
+        if (graphBytes > 0) {
+            sb.append(String.format("Graphs:      %.1f MB estimated, %.1f MB/s%n", graphBytes / MB, graphBytes / MB / getElapsedSeconds()));
+        }
+        sb.append(String.format("GC:          %d collections, %d ms%n", getGcCount(), getGcMillis()));
+        if (allocatedBytes >= 0) {
+            sb.append(String.format("Allocation:  %.1f MB, %.1f MB/s%n", allocatedBytes / MB, getAllocationRate()));
+        }
+        return sb.toString();
+    }
+}
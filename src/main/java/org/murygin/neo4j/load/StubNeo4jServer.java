@@ -0,0 +1,529 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j.load;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.murygin.neo4j.CypherToJson;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * A local HTTP server which answers requests to the transactional Cypher 
+ * endpoint of Neo4j with recorded or synthetic responses. Use it for tests 
+ * and load tests without a database.
+ * 
+ * A recorded response is the JSON body of a Neo4j response. It is returned 
+ * for a statement with the same query text or for all statements. Without 
+ * a recorded response a synthetic result is returned: A chain of nodes 
+ * connected by relationships in row and graph format. A {@link StatementHandler}
+ * answers statements with results computed from their query and parameters.
+ * 
+ * Responses can be delayed to simulate a slow server or a slow network. 
+ * Received requests are recorded on demand to check the statements a client sends.
+ * 
+ * Getting started:
+ * 
+ * StubNeo4jServer server = new StubNeo4jServer(0);
+ * server.setNumberOfNodes(1000);
+ * server.start();
+ * executer.setHost("127.0.0.1");
+ * executer.setPort(String.valueOf(server.getPort()));
+ * ..
+ * server.stop();
+ */
+public class StubNeo4jServer {
+
+    private static final Logger LOG = LoggerFactory.getLogger(StubNeo4jServer.class);
+    
+    public static final int DEFAULT_NUMBER_OF_NODES = 100;
+    public static final int DEFAULT_THREADS = 16;
+    
+    private static final String EMPTY_RESULT = "{\"results\":[],\"errors\":[]}";
+    private static final String ERROR_CODE = "Neo.ClientError.Statement.ExecutionFailed";
+    
+    // Size of the chunks of a response which is sent slowly
+    private static final int STREAM_CHUNK_SIZE = 256;
+    
+    private final int port;
+    private int numberOfNodes = DEFAULT_NUMBER_OF_NODES;
+    private int threads = DEFAULT_THREADS;
+    private String recordedResponse;
+    private final Map<String, String> recordedResponses = new ConcurrentHashMap<String, String>();
+    private volatile StatementHandler statementHandler;
+    private volatile long responseDelay = 0;
+    private volatile long streamDelay = 0;
+    private volatile boolean recordRequests = false;
+    private final Queue<ReceivedRequest> receivedRequests = new ConcurrentLinkedQueue<ReceivedRequest>();
+    
+    private HttpServer server;
+    private ExecutorService executor;
+    private volatile byte[] syntheticResult;
+    private final AtomicInteger transactionIds = new AtomicInteger();
+    private final AtomicLong numberOfRequests = new AtomicLong();
+    private final AtomicLong bytesSent = new AtomicLong();
+    
+    /**
+     * @param port The port of the server, 0 for any free port
+     */
+    public StubNeo4jServer(int port) {
+        super();
+        this.port = port;
+    }
+    
+    /**
+     * Starts a server. Usage: StubNeo4jServer [port] [number of nodes]
+     */
+    public static void main(String[] args) throws Exception {
+        int port = (args.length > 0) ? Integer.parseInt(args[0]) : Integer.parseInt(CypherToJson.DEFAULT_PORT);
+        StubNeo4jServer server = new StubNeo4jServer(port);
+        if (args.length > 1) {
+            server.setNumberOfNodes(Integer.parseInt(args[1]));
+        }
+        server.start();
+        System.out.println("Stub Neo4j server listening on port " + server.getPort());
+    }
+    
+    public void start() throws IOException {
+        syntheticResult = createSyntheticResult(numberOfNodes).getBytes(StandardCharsets.UTF_8);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        server.createContext(CypherToJson.DEFAULT_TRANSACTION_PATH, this::handle);
+        executor = Executors.newFixedThreadPool(threads);
+        server.setExecutor(executor);
+        server.start();
+    }
+    
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+        }
+    }
+    
+    /**
+     * @return The port of the running server
+     */
+    public int getPort() {
+        return (server != null) ? server.getAddress().getPort() : port;
+    }
+    
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            numberOfRequests.incrementAndGet();
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath();
+            JSONArray statements = "DELETE".equals(method) ? new JSONArray() : readStatements(exchange.getRequestBody());
+            if (isRecordRequests()) {
+                receivedRequests.add(new ReceivedRequest(method, path, statements));
+            }
+            sleep(getResponseDelay());
+            if ("DELETE".equals(method)) {
+                send(exchange, 200, EMPTY_RESULT.getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            if (path.equals(CypherToJson.DEFAULT_TRANSACTION_PATH)) {
+                String location = "http://" + exchange.getLocalAddress().getHostString() + ":" + getPort() 
+                        + CypherToJson.DEFAULT_TRANSACTION_PATH + "/" + transactionIds.incrementAndGet();
+                exchange.getResponseHeaders().add("Location", location);
+                send(exchange, 201, createResponse(statements));
+            } else {
+                send(exchange, 200, createResponse(statements));
+            }
+        } catch (RuntimeException e) {
+            LOG.error("Error while handling request", e);
+            send(exchange, 500, new byte[0]);
+        } finally {
+            exchange.close();
+        }
+    }
+    
+    private JSONArray readStatements(InputStream in) throws IOException {
+        try {
+            JSONObject request = (JSONObject) new JSONParser().parse(new InputStreamReader(in, StandardCharsets.UTF_8));
+            JSONArray statements = (request != null) ? (JSONArray) request.get("statements") : null;
+            return (statements != null) ? statements : new JSONArray();
+        } catch (ParseException e) {
+            throw new RuntimeException("Invalid request", e);
+        }
+    }
+    
+    private byte[] createResponse(JSONArray statements) {
+        StatementHandler handler = getStatementHandler();
+        if (handler != null) {
+            return createResponse(handler, statements);
+        }
+        if (statements.size() == 1) {
+            String query = (String) ((JSONObject) statements.get(0)).get("statement");
+            String recorded = recordedResponses.get(query);
+            if (recorded == null) {
+                recorded = recordedResponse;
+            }
+            if (recorded != null) {
+                return recorded.getBytes(StandardCharsets.UTF_8);
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write('{');
+        writeAscii(out, "\"results\":[");
+        for (int i = 0; i < statements.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.write(syntheticResult, 0, syntheticResult.length);
+        }
+        writeAscii(out, "],\"errors\":[]}");
+        return out.toByteArray();
+    }
+    
+    /**
+     * Creates a response with the results of a statement handler. Like Neo4j 
+     * the execution stops at the first failed statement, its error is returned 
+     * after the results of the statements before.
+     */
+    @SuppressWarnings("unchecked")
+    private byte[] createResponse(StatementHandler handler, JSONArray statements) {
+        StringBuilder sb = new StringBuilder("{\"results\":[");
+        JSONArray errors = new JSONArray();
+        for (int i = 0; i < statements.size(); i++) {
+            JSONObject statement = (JSONObject) statements.get(i);
+            String result;
+            try {
+                result = handler.handle((String) statement.get("statement"), (JSONObject) statement.get("parameters"));
+            } catch (RuntimeException e) {
+                JSONObject error = new JSONObject();
+                error.put("code", ERROR_CODE);
+                error.put("message", e.getMessage());
+                errors.add(error);
+                break;
+            }
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append((result != null) ? result : new String(syntheticResult, StandardCharsets.UTF_8));
+        }
+        sb.append("],\"errors\":").append(errors.toJSONString()).append('}');
+        return sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+    
+    private static void writeAscii(ByteArrayOutputStream out, String text) {
+        byte[] bytes = text.getBytes(StandardCharsets.US_ASCII);
+        out.write(bytes, 0, bytes.length);
+    }
+    
+    private void send(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/json; charset=UTF-8");
+        // count before sending, a client may finish reading before the body is closed here
+        bytesSent.addAndGet(body.length);
+        long delay = getStreamDelay();
+        if (delay > 0 && body.length > 0) {
+            // send the body in chunks with a pause before each chunk but the first
+            exchange.sendResponseHeaders(status, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                for (int offset = 0; offset < body.length; offset += STREAM_CHUNK_SIZE) {
+                    if (offset > 0) {
+                        sleep(delay);
+                    }
+                    out.write(body, offset, Math.min(STREAM_CHUNK_SIZE, body.length - offset));
+                    out.flush();
+                }
+            }
+        } else {
+            exchange.sendResponseHeaders(status, (body.length > 0) ? body.length : -1);
+            if (body.length > 0) {
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+        }
+    }
+    
+    private static void sleep(long millis) throws InterruptedIOException {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while delaying the response");
+        }
+    }
+    
+    /**
+     * Creates the result of a query which returns a chain of nodes:
+     * (0)-[:NEXT]->(1)-[:NEXT]->(2) ..
+     * Every row contains a relationship and its start and end node.
+     */
+    @SuppressWarnings("unchecked")
+    static String createSyntheticResult(int numberOfNodes) {
+        JSONArray columns = new JSONArray();
+        columns.add("n");
+        columns.add("r");
+        columns.add("m");
+        JSONArray data = new JSONArray();
+        for (int i = 0; i < numberOfNodes - 1; i++) {
+            JSONObject start = createNode(i);
+            JSONObject end = createNode(i + 1);
+            JSONObject relationship = new JSONObject();
+            relationship.put("id", String.valueOf(i));
+            relationship.put("type", "NEXT");
+            relationship.put("startNode", String.valueOf(i));
+            relationship.put("endNode", String.valueOf(i + 1));
+            JSONObject relationshipProperties = new JSONObject();
+            relationshipProperties.put("weight", i % 10);
+            relationship.put("properties", relationshipProperties);
+            
+            JSONArray row = new JSONArray();
+            row.add(start.get("properties"));
+            row.add(relationshipProperties);
+            row.add(end.get("properties"));
+            JSONArray nodes = new JSONArray();
+            nodes.add(start);
+            nodes.add(end);
+            JSONArray relationships = new JSONArray();
+            relationships.add(relationship);
+            JSONObject graph = new JSONObject();
+            graph.put("nodes", nodes);
+            graph.put("relationships", relationships);
+            JSONObject dataEntry = new JSONObject();
+            dataEntry.put("row", row);
+            dataEntry.put("graph", graph);
+            data.add(dataEntry);
+        }
+        JSONObject result = new JSONObject();
+        result.put("columns", columns);
+        result.put("data", data);
+        return result.toJSONString();
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static JSONObject createNode(int id) {
+        JSONObject node = new JSONObject();
+        node.put("id", String.valueOf(id));
+        JSONArray labels = new JSONArray();
+        labels.add("station");
+        node.put("labels", labels);
+        JSONObject properties = new JSONObject();
+        properties.put("name", "station" + id);
+        properties.put("number", id);
+        node.put("properties", properties);
+        return node;
+    }
+
+    public int getNumberOfNodes() {
+        return numberOfNodes;
+    }
+
+    /**
+     * @param numberOfNodes The number of nodes of a synthetic result, call this before start()
+     */
+    public void setNumberOfNodes(int numberOfNodes) {
+        this.numberOfNodes = numberOfNodes;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * @param threads The number of threads which handle requests, call this before start()
+     */
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public String getRecordedResponse() {
+        return recordedResponse;
+    }
+
+    /**
+     * @param recordedResponse A response which is returned for all statements 
+     *  without a recorded response for their query
+     */
+    public void setRecordedResponse(String recordedResponse) {
+        this.recordedResponse = recordedResponse;
+    }
+    
+    /**
+     * @param file A file with a response which is returned for all statements 
+     *  without a recorded response for their query
+     */
+    public void loadRecordedResponse(String file) throws IOException {
+        setRecordedResponse(new String(Files.readAllBytes(Paths.get(file)), StandardCharsets.UTF_8));
+    }
+    
+    /**
+     * @param query The query of a statement
+     * @param response The response which is returned for the statement
+     */
+    public void addRecordedResponse(String query, String response) {
+        recordedResponses.put(query, response);
+    }
+
+    public StatementHandler getStatementHandler() {
+        return statementHandler;
+    }
+
+    /**
+     * @param statementHandler A handler which answers all statements or null
+     */
+    public void setStatementHandler(StatementHandler statementHandler) {
+        this.statementHandler = statementHandler;
+    }
+
+    public long getResponseDelay() {
+        return responseDelay;
+    }
+
+    /**
+     * @param responseDelay Milliseconds the server waits before it answers a request
+     */
+    public void setResponseDelay(long responseDelay) {
+        this.responseDelay = responseDelay;
+    }
+
+    public long getStreamDelay() {
+        return streamDelay;
+    }
+
+    /**
+     * @param streamDelay Milliseconds the server waits before it sends 
+     *  the next chunk of a response, 0 to send a response at once
+     */
+    public void setStreamDelay(long streamDelay) {
+        this.streamDelay = streamDelay;
+    }
+
+    public boolean isRecordRequests() {
+        return recordRequests;
+    }
+
+    /**
+     * @param recordRequests True if the received requests are recorded, see getReceivedRequests()
+     */
+    public void setRecordRequests(boolean recordRequests) {
+        this.recordRequests = recordRequests;
+    }
+    
+    /**
+     * @return The recorded requests in the order they were received
+     */
+    public List<ReceivedRequest> getReceivedRequests() {
+        return new ArrayList<ReceivedRequest>(receivedRequests);
+    }
+    
+    public void clearReceivedRequests() {
+        receivedRequests.clear();
+    }
+
+    public long getNumberOfRequests() {
+        return numberOfRequests.get();
+    }
+
+    public long getBytesSent() {
+        return bytesSent.get();
+    }
+    
+    /**
+     * Answers a statement with a result computed from its query and parameters.
+     */
+    public interface StatementHandler {
+        
+        /**
+         * @param query The query of the statement
+         * @param parameters The parameters of the statement or null
+         * @return The result of the statement: {"columns":[..],"data":[..]} 
+         *  or null for a synthetic result. A RuntimeException is returned as error.
+         */
+        String handle(String query, JSONObject parameters);
+    }
+    
+    /**
+     * A request received by the server.
+     */
+    public static class ReceivedRequest {
+        
+        private final String method;
+        private final String path;
+        private final JSONArray statements;
+        
+        ReceivedRequest(String method, String path, JSONArray statements) {
+            super();
+            this.method = method;
+            this.path = path;
+            this.statements = statements;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        /**
+         * @return The statements of the request: [{"statement":"..","parameters":{..}}, ..]
+         */
+        public JSONArray getStatements() {
+            return statements;
+        }
+        
+        /**
+         * @param index The index of a statement
+         * @return The query of the statement
+         */
+        public String getQuery(int index) {
+            return (String) ((JSONObject) statements.get(index)).get("statement");
+        }
+        
+        /**
+         * @param index The index of a statement
+         * @return The parameters of the statement or null
+         */
+        public JSONObject getParameters(int index) {
+            return (JSONObject) ((JSONObject) statements.get(index)).get("parameters");
+        }
+    }
+}
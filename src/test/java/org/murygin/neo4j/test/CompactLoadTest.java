@@ -0,0 +1,171 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jgrapht.DirectedGraph;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.murygin.neo4j.CypherToJGraphT;
+import org.murygin.neo4j.CypherToJson;
+import org.murygin.neo4j.Edge;
+import org.murygin.neo4j.Node;
+import org.murygin.neo4j.load.StubNeo4jServer;
+
+public class CompactLoadTest {
+
+    private static final String MATCH = "MATCH (n:station)-[r:NEXT]->()";
+    private static final int NUMBER_OF_NODES = 20;
+    
+    private StubNeo4jServer server;
+    // nodes which are returned by the node query
+    private int numberOfReturnedNodes = NUMBER_OF_NODES;
+    
+    @Before
+    public void startServer() throws Exception {
+        server = new StubNeo4jServer(0);
+        server.setNumberOfNodes(NUMBER_OF_NODES);
+        // the graph format query is answered with the synthetic chain of the stub
+        server.setStatementHandler((query, parameters) -> handle(query));
+        server.start();
+    }
+    
+    @After
+    public void stopServer() {
+        server.stop();
+    }
+    
+    @Test
+    public void testSameGraphAsGraphFormat() {
+        DirectedGraph<Node, Edge> expected = createGraphLoader().execute(MATCH + " RETURN n,r");
+        DirectedGraph<Node, Edge> graph = createGraphLoader().executeCompact(MATCH, "r");
+        assertEquals(NUMBER_OF_NODES, graph.vertexSet().size());
+        assertEquals(expected.vertexSet(), graph.vertexSet());
+        assertEquals(expected.edgeSet(), graph.edgeSet());
+        Map<String, Node> expectedNodes = new HashMap<String, Node>();
+        for (Node node : expected.vertexSet()) {
+            expectedNodes.put(node.getId(), node);
+        }
+        for (Node node : graph.vertexSet()) {
+            Node expectedNode = expectedNodes.get(node.getId());
+            assertEquals(expectedNode.getLabels(), node.getLabels());
+            assertEquals(expectedNode.getProperties(), node.getProperties());
+        }
+        for (Edge edge : graph.edgeSet()) {
+            assertEquals("NEXT", edge.getType());
+            assertEquals(String.valueOf(Long.parseLong(edge.getId()) % 10), edge.getProperties().get("weight"));
+            assertEquals(edge.getSourceNode(), graph.getEdgeSource(edge));
+            assertEquals(String.valueOf(Long.parseLong(edge.getId()) + 1), graph.getEdgeTarget(edge).getId());
+        }
+    }
+    
+    @Test
+    public void testQueries() {
+        server.setRecordRequests(true);
+        createGraphLoader().executeCompact(MATCH, "r");
+        List<StubNeo4jServer.ReceivedRequest> requests = server.getReceivedRequests();
+        assertEquals(2, requests.size());
+        assertEquals(String.format(CypherToJGraphT.COMPACT_NODE_QUERY, MATCH, "r"), requests.get(0).getQuery(0));
+        assertEquals(String.format(CypherToJGraphT.COMPACT_RELATION_QUERY, MATCH, "r"), requests.get(1).getQuery(0));
+        for (StubNeo4jServer.ReceivedRequest request : requests) {
+            JSONObject statement = (JSONObject) request.getStatements().get(0);
+            assertEquals("[\"" + CypherToJson.RESULT_DATA_CONTENT_ROW + "\"]", ((JSONArray) statement.get("resultDataContents")).toJSONString());
+        }
+    }
+    
+    @Test
+    public void testJavadocExample() {
+        server.setRecordRequests(true);
+        createGraphLoader().executeCompact("MATCH (n:station)-[r:train]-()", "r");
+        List<StubNeo4jServer.ReceivedRequest> requests = server.getReceivedRequests();
+        // n of the MATCH clause is not declared again
+        assertEquals("MATCH (n:station)-[r:train]-() WITH DISTINCT r AS r UNWIND [startNode(r), endNode(r)] AS node "
+                + "WITH DISTINCT node RETURN id(node), labels(node), node", requests.get(0).getQuery(0));
+        assertEquals("MATCH (n:station)-[r:train]-() WITH DISTINCT r AS r "
+                + "RETURN id(r), id(startNode(r)), id(endNode(r)), type(r), r", requests.get(1).getQuery(0));
+    }
+    
+    @Test
+    public void testRelationshipsOfMissingNodes() {
+        numberOfReturnedNodes = 5;
+        DirectedGraph<Node, Edge> graph = createGraphLoader().executeCompact(MATCH, "r");
+        assertEquals(5, graph.vertexSet().size());
+        // only the relationships between the returned nodes are loaded
+        assertEquals(4, graph.edgeSet().size());
+        for (Edge edge : graph.edgeSet()) {
+            assertTrue(Long.parseLong(edge.getId()) < 4);
+        }
+    }
+    
+    /**
+     * Answers the compact queries with the chain (0)-[0:NEXT]->(1)-[1:NEXT]->(2) .. 
+     * in row format.
+     */
+    @SuppressWarnings("unchecked")
+    private String handle(String query) {
+        JSONArray data = new JSONArray();
+        if (query.contains("UNWIND [startNode(")) {
+            for (int i = 0; i < numberOfReturnedNodes; i++) {
+                JSONArray labels = new JSONArray();
+                labels.add("station");
+                JSONObject properties = new JSONObject();
+                properties.put("name", "station" + i);
+                properties.put("number", i);
+                data.add(createDataEntry((long) i, labels, properties));
+            }
+        } else if (query.contains("WITH DISTINCT")) {
+            for (int i = 0; i < NUMBER_OF_NODES - 1; i++) {
+                JSONObject properties = new JSONObject();
+                properties.put("weight", i % 10);
+                data.add(createDataEntry((long) i, (long) i, (long) i + 1, "NEXT", properties));
+            }
+        } else {
+            return null;
+        }
+        JSONObject result = new JSONObject();
+        result.put("columns", new JSONArray());
+        result.put("data", data);
+        return result.toJSONString();
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static JSONObject createDataEntry(Object... values) {
+        JSONArray row = new JSONArray();
+        for (Object value : values) {
+            row.add(value);
+        }
+        JSONObject dataEntry = new JSONObject();
+        dataEntry.put("row", row);
+        return dataEntry;
+    }
+    
+    private CypherToJGraphT createGraphLoader() {
+        CypherToJGraphT graphLoader = new CypherToJGraphT();
+        graphLoader.setHost("127.0.0.1");
+        graphLoader.setPort(String.valueOf(server.getPort()));
+        return graphLoader;
+    }
+}
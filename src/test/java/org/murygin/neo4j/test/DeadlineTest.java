@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.jgrapht.DirectedGraph;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.murygin.neo4j.CypherToJGraphT;
+import org.murygin.neo4j.CypherToJson;
+import org.murygin.neo4j.Deadline;
+import org.murygin.neo4j.Edge;
+import org.murygin.neo4j.Node;
+import org.murygin.neo4j.QueryCancelledException;
+import org.murygin.neo4j.Row;
+import org.murygin.neo4j.RowCursor;
+import org.murygin.neo4j.load.StubNeo4jServer;
+
+public class DeadlineTest {
+
+    private static final String QUERY = "MATCH (n)-[r]->(m) RETURN n,r,m";
+    
+    private StubNeo4jServer server;
+    
+    @Before
+    public void startServer() throws Exception {
+        server = new StubNeo4jServer(0);
+        server.setNumberOfNodes(200);
+        server.start();
+    }
+    
+    @After
+    public void stopServer() {
+        server.stop();
+    }
+    
+    @Test
+    public void testStreamWithinDeadline() {
+        CypherToJGraphT graphLoader = createGraphLoader();
+        graphLoader.setDeadline(Deadline.after(10, TimeUnit.SECONDS));
+        DirectedGraph<Node, Edge> graph = graphLoader.executeStreaming(QUERY);
+        assertEquals(200, graph.vertexSet().size());
+        assertEquals(199, graph.edgeSet().size());
+        CypherToJson executer = createExecuter();
+        executer.setDeadline(Deadline.after(10, TimeUnit.SECONDS));
+        try (Stream<Row> rows = executer.stream(QUERY)) {
+            assertEquals(199, rows.count());
+        }
+    }
+    
+    @Test
+    public void testDeadlineWhileWaitingForStream() {
+        server.setResponseDelay(3000);
+        CypherToJGraphT graphLoader = createGraphLoader();
+        graphLoader.setDeadline(Deadline.after(300, TimeUnit.MILLISECONDS));
+        long start = System.currentTimeMillis();
+        try {
+            graphLoader.executeStreaming(QUERY);
+            fail("Deadline not enforced");
+        } catch (QueryCancelledException e) {
+            assertElapsed(start, 1500);
+        }
+    }
+    
+    @Test
+    public void testDeadlineDuringSlowStream() {
+        // the reader blocks until the next chunk arrives
+        server.setStreamDelay(2000);
+        CypherToJGraphT graphLoader = createGraphLoader();
+        graphLoader.setDeadline(Deadline.after(500, TimeUnit.MILLISECONDS));
+        long start = System.currentTimeMillis();
+        try {
+            graphLoader.executeStreaming(QUERY);
+            fail("Deadline not enforced");
+        } catch (QueryCancelledException e) {
+            assertElapsed(start, 1500);
+        }
+    }
+    
+    @Test
+    public void testCancelDuringSlowStream() {
+        // there is no read timeout, only cancel() stops the blocked read
+        server.setStreamDelay(2000);
+        CypherToJson executer = createExecuter();
+        Deadline deadline = Deadline.none();
+        executer.setDeadline(deadline);
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        long start = System.currentTimeMillis();
+        try (RowCursor cursor = executer.openCursor(QUERY)) {
+            scheduler.schedule(deadline::cancel, 300, TimeUnit.MILLISECONDS);
+            while (cursor.hasNext()) {
+                cursor.next();
+            }
+            fail("Cancel not enforced");
+        } catch (QueryCancelledException e) {
+            assertElapsed(start, 1500);
+        } finally {
+            scheduler.shutdownNow();
+        }
+    }
+    
+    private static void assertElapsed(long start, long maxMillis) {
+        long elapsed = System.currentTimeMillis() - start;
+        assertTrue("Cancelled too late: " + elapsed + " ms", elapsed < maxMillis);
+    }
+
+    private CypherToJGraphT createGraphLoader() {
+        CypherToJGraphT graphLoader = new CypherToJGraphT();
+        graphLoader.setHost("127.0.0.1");
+        graphLoader.setPort(String.valueOf(server.getPort()));
+        return graphLoader;
+    }
+    
+    private CypherToJson createExecuter() {
+        CypherToJson executer = new CypherToJson();
+        executer.setHost("127.0.0.1");
+        executer.setPort(String.valueOf(server.getPort()));
+        return executer;
+    }
+}
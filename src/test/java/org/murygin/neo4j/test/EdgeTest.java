@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.jgrapht.DirectedGraph;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.murygin.neo4j.CypherToJGraphT;
+import org.murygin.neo4j.Edge;
+import org.murygin.neo4j.Node;
+import org.murygin.neo4j.load.StubNeo4jServer;
+
+public class EdgeTest {
+
+    private static final String PARALLEL_QUERY = "MATCH (a)-[r:KNOWS]->(b) RETURN a,r,b";
+    private static final String UNDIRECTED_QUERY = "MATCH (n)-[r]-() RETURN n,r";
+    
+    private StubNeo4jServer server;
+    
+    @Before
+    public void startServer() throws Exception {
+        server = new StubNeo4jServer(0);
+        // two relationships of the same type between the same nodes
+        server.addRecordedResponse(PARALLEL_QUERY, createResponse(
+                createDataEntry(createRelationship("10", "1", "2", "2015")), 
+                createDataEntry(createRelationship("11", "1", "2", "2016"))));
+        // every relationship is returned once for each of its nodes
+        server.addRecordedResponse(UNDIRECTED_QUERY, createResponse(
+                createDataEntry(createRelationship("10", "1", "2", "2015")), 
+                createDataEntry(createRelationship("10", "1", "2", "2015")),
+                createDataEntry(createRelationship("12", "2", "3", "2017")), 
+                createDataEntry(createRelationship("12", "2", "3", "2017"))));
+        server.start();
+    }
+    
+    @After
+    public void stopServer() {
+        server.stop();
+    }
+    
+    @Test
+    public void testParallelRelationships() {
+        assertParallelRelationships(createGraphLoader().execute(PARALLEL_QUERY));
+        assertParallelRelationships(createGraphLoader().executeStreaming(PARALLEL_QUERY));
+    }
+
+    private static void assertParallelRelationships(DirectedGraph<Node, Edge> graph) {
+        assertEquals(2, graph.vertexSet().size());
+        assertEquals(2, graph.edgeSet().size());
+        Set<String> since = new HashSet<String>();
+        for (Edge edge : graph.edgeSet()) {
+            assertEquals("KNOWS", edge.getType());
+            since.add(edge.getProperties().get("since"));
+        }
+        assertEquals(2, since.size());
+    }
+    
+    @Test
+    public void testDuplicateRelationships() {
+        assertDuplicatesSkipped(createGraphLoader().execute(UNDIRECTED_QUERY));
+        assertDuplicatesSkipped(createGraphLoader().executeStreaming(UNDIRECTED_QUERY));
+    }
+
+    private static void assertDuplicatesSkipped(DirectedGraph<Node, Edge> graph) {
+        assertEquals(3, graph.vertexSet().size());
+        assertEquals(2, graph.edgeSet().size());
+        Set<String> ids = new HashSet<String>();
+        for (Edge edge : graph.edgeSet()) {
+            ids.add(edge.getId());
+        }
+        assertEquals(2, ids.size());
+    }
+    
+    @Test
+    public void testEquality() {
+        Node a = new Node("1");
+        Node b = new Node("2");
+        // relationships are identified by their id
+        assertFalse(new Edge("10", a, b, "KNOWS").equals(new Edge("11", a, b, "KNOWS")));
+        assertEquals(new Edge("10", a, b, "KNOWS"), new Edge("10", new Node("1"), new Node("2"), "KNOWS"));
+        assertEquals(new Edge("10", a, b, "KNOWS").hashCode(), new Edge("10", a, b, "KNOWS").hashCode());
+        assertFalse(new Edge("10", a, b, "KNOWS").equals(new Edge(a, b, "KNOWS")));
+        // edges without id by their nodes and type
+        assertEquals(new Edge(a, b, "KNOWS"), new Edge(new Node("1"), new Node("2"), "KNOWS"));
+        assertFalse(new Edge(a, b, "KNOWS").equals(new Edge(b, a, "KNOWS")));
+        assertFalse(new Edge(a, b, "KNOWS").equals(new Edge(a, b, "LIKES")));
+    }
+    
+    private static String createResponse(String... dataEntries) {
+        return "{\"results\":[{\"columns\":[\"n\",\"r\",\"m\"],\"data\":[" + String.join(",", dataEntries) + "]}],\"errors\":[]}";
+    }
+    
+    private static String createDataEntry(String relationship) {
+        String[] nodeIds = relationship.replaceAll(".*\"startNode\":\"(\\d+)\",\"endNode\":\"(\\d+)\".*", "$1,$2").split(",");
+        return "{\"row\":[{},{},{}],\"graph\":{\"nodes\":[" + createNode(nodeIds[0]) + "," + createNode(nodeIds[1]) 
+                + "],\"relationships\":[" + relationship + "]}}";
+    }
+    
+    private static String createNode(String id) {
+        return "{\"id\":\"" + id + "\",\"labels\":[\"person\"],\"properties\":{\"name\":\"person" + id + "\"}}";
+    }
+    
+    private static String createRelationship(String id, String startId, String endId, String since) {
+        return "{\"id\":\"" + id + "\",\"type\":\"KNOWS\",\"startNode\":\"" + startId + "\",\"endNode\":\"" + endId 
+                + "\",\"properties\":{\"since\":" + since + "}}";
+    }
+    
+    private CypherToJGraphT createGraphLoader() {
+        CypherToJGraphT graphLoader = new CypherToJGraphT();
+        graphLoader.setHost("127.0.0.1");
+        graphLoader.setPort(String.valueOf(server.getPort()));
+        return graphLoader;
+    }
+}
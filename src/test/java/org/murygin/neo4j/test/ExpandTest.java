@@ -0,0 +1,252 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.jgrapht.DirectedGraph;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.murygin.neo4j.CypherToJGraphT;
+import org.murygin.neo4j.Edge;
+import org.murygin.neo4j.GraphSnapshot;
+import org.murygin.neo4j.GraphWriter;
+import org.murygin.neo4j.Node;
+import org.murygin.neo4j.load.StubNeo4jServer;
+
+public class ExpandTest {
+
+    // (1)-[10]->(2)-[11]->(3)<-[12]-(4)
+    private static final String[][] RELATIONSHIPS = {
+        {"10", "1", "2", "KNOWS"}, 
+        {"11", "2", "3", "KNOWS"}, 
+        {"12", "4", "3", "LIKES"}
+    };
+    
+    private static final Pattern ID_LIST = Pattern.compile("IN \\[([0-9,]*)\\]");
+    
+    private StubNeo4jServer server;
+    
+    @Before
+    public void startServer() throws Exception {
+        server = new StubNeo4jServer(0);
+        server.setStatementHandler((query, parameters) -> handle(query));
+        server.start();
+    }
+    
+    @After
+    public void stopServer() {
+        server.stop();
+    }
+    
+    @Test
+    public void testExpand() {
+        CypherToJGraphT graphLoader = createGraphLoader();
+        DirectedGraph<Node, Edge> graph = graphLoader.expand(Arrays.asList("1"), 2);
+        assertEquals(3, graph.vertexSet().size());
+        assertEquals(2, graph.edgeSet().size());
+        assertEquals("node3", findNode(graph, "3").getProperty("name"));
+        // one seed query and one query per level
+        assertEquals(3, server.getNumberOfRequests());
+    }
+    
+    @Test
+    public void testPaddedAndDuplicateSeeds() {
+        server.setRecordRequests(true);
+        CypherToJGraphT graphLoader = createGraphLoader();
+        DirectedGraph<Node, Edge> graph = graphLoader.expand(Arrays.asList(" 1", "1 ", "01", "2"), 2);
+        assertEquals(4, graph.vertexSet().size());
+        assertEquals(3, graph.edgeSet().size());
+        List<StubNeo4jServer.ReceivedRequest> requests = server.getReceivedRequests();
+        assertEquals(3, requests.size());
+        assertEquals(String.format(CypherToJGraphT.EXPAND_SEED_QUERY, "1,2"), requests.get(0).getQuery(0));
+        assertTrue(requests.get(1).getQuery(0).contains("IN [1,2]"));
+        // the seeds are not expanded again as neighbors of each other
+        assertTrue(requests.get(2).getQuery(0).contains("IN [3]"));
+    }
+    
+    @Test
+    public void testExpandTwice() {
+        CypherToJGraphT graphLoader = createGraphLoader();
+        graphLoader.expand(Arrays.asList("1"), 1);
+        DirectedGraph<Node, Edge> graph = graphLoader.expand(Arrays.asList("2"), 1);
+        assertEquals(3, graph.vertexSet().size());
+        assertEquals(2, graph.edgeSet().size());
+        Node node2 = findNode(graph, "2");
+        // the relationships of the second expand are connected to the nodes in the graph
+        Edge edge11 = findEdge(graph, "11");
+        assertSame(node2, edge11.getSourceNode());
+        assertSame(node2, findEdge(graph, "10").getTargetNode());
+        assertEquals(2, graph.edgesOf(node2).size());
+        graph = graphLoader.expand(Arrays.asList("3"), 1);
+        assertEquals(4, graph.vertexSet().size());
+        assertEquals(3, graph.edgeSet().size());
+        assertSame(findNode(graph, "3"), findEdge(graph, "12").getTargetNode());
+    }
+    
+    @Test
+    public void testWriteAfterExpand() {
+        CypherToJGraphT graphLoader = createGraphLoader();
+        graphLoader.expand(Arrays.asList("1"), 1);
+        GraphSnapshot snapshot = GraphSnapshot.create(graphLoader.getGraph());
+        DirectedGraph<Node, Edge> graph = graphLoader.expand(Arrays.asList("2"), 1);
+        assertEquals(2, graph.edgeSet().size());
+        Node node1 = findNode(graph, "1");
+        Node node2 = findNode(graph, "2");
+        Edge newEdge = new Edge(node2, node1, "KNOWS");
+        graph.addEdge(node2, node1, newEdge);
+        server.setRecordRequests(true);
+        GraphWriter writer = new GraphWriter();
+        writer.setHost("127.0.0.1");
+        writer.setPort(String.valueOf(server.getPort()));
+        // relationship 11 of the second expand exists in Neo4j, only the edge without id is created
+        assertEquals(1, writer.writeChanges(graph, snapshot));
+        List<StubNeo4jServer.ReceivedRequest> requests = server.getReceivedRequests();
+        assertEquals(1, requests.size());
+        assertEquals(String.format(GraphWriter.CREATE_RELATIONS, "`KNOWS`"), requests.get(0).getQuery(0));
+        JSONArray rows = (JSONArray) requests.get(0).getParameters(0).get(GraphWriter.PARAMETER_ROWS);
+        assertEquals(1, rows.size());
+        assertEquals(Long.valueOf(2), ((JSONObject) rows.get(0)).get("start"));
+    }
+    
+    @Test
+    public void testStreamingIntoLoadedGraph() {
+        server.setStatementHandler(null);
+        server.addRecordedResponse("Q1", createGraphResponse("1", "2", "10"));
+        server.addRecordedResponse("Q2", createGraphResponse("2", "3", "11"));
+        CypherToJGraphT graphLoader = createGraphLoader();
+        graphLoader.executeStreaming("Q1");
+        DirectedGraph<Node, Edge> graph = graphLoader.executeStreaming("Q2");
+        assertEquals(3, graph.vertexSet().size());
+        assertEquals(2, graph.edgeSet().size());
+        assertSame(findNode(graph, "2"), findEdge(graph, "11").getSourceNode());
+    }
+    
+    private static Node findNode(DirectedGraph<Node, Edge> graph, String id) {
+        for (Node node : graph.vertexSet()) {
+            if (id.equals(node.getId())) {
+                return node;
+            }
+        }
+        throw new AssertionError("Node not found: " + id);
+    }
+    
+    private static Edge findEdge(DirectedGraph<Node, Edge> graph, String id) {
+        for (Edge edge : graph.edgeSet()) {
+            if (id.equals(edge.getId())) {
+                assertTrue(graph.containsVertex(edge.getSourceNode()));
+                return edge;
+            }
+        }
+        throw new AssertionError("Relationship not found: " + id);
+    }
+    
+    /**
+     * Answers the seed and expand queries of the loader in row format.
+     */
+    @SuppressWarnings("unchecked")
+    private static String handle(String query) {
+        if (query.startsWith("UNWIND")) {
+            // a query of GraphWriter
+            return null;
+        }
+        Matcher matcher = ID_LIST.matcher(query);
+        if (!matcher.find()) {
+            throw new IllegalArgumentException("Unexpected query: " + query);
+        }
+        Set<String> ids = new HashSet<String>(Arrays.asList(matcher.group(1).split(",")));
+        JSONArray data = new JSONArray();
+        if (query.startsWith("MATCH (n) WHERE")) {
+            for (String id : ids) {
+                data.add(createRow(id, createLabels(), createProperties(id)));
+            }
+            return createResult(data, "id(n)", "labels(n)", "n");
+        }
+        for (String[] relationship : RELATIONSHIPS) {
+            for (int end = 1; end <= 2; end++) {
+                if (ids.contains(relationship[end])) {
+                    String neighborId = relationship[3 - end];
+                    data.add(createRow(relationship[0], relationship[1], relationship[2], relationship[3], new JSONObject(), 
+                            neighborId, createLabels(), createProperties(neighborId)));
+                }
+            }
+        }
+        return createResult(data, "id(r)", "id(startNode(r))", "id(endNode(r))", "type(r)", "r", "id(m)", "labels(m)", "m");
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static JSONObject createRow(Object... values) {
+        JSONArray row = new JSONArray();
+        for (Object value : values) {
+            // ids are numbers in the response
+            row.add((value instanceof String && ((String) value).matches("[0-9]+")) ? Long.valueOf((String) value) : value);
+        }
+        JSONObject dataEntry = new JSONObject();
+        dataEntry.put("row", row);
+        return dataEntry;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static String createResult(JSONArray data, String... columns) {
+        JSONObject result = new JSONObject();
+        JSONArray columnArray = new JSONArray();
+        columnArray.addAll(Arrays.asList(columns));
+        result.put("columns", columnArray);
+        result.put("data", data);
+        return result.toJSONString();
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static JSONArray createLabels() {
+        JSONArray labels = new JSONArray();
+        labels.add("person");
+        return labels;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static JSONObject createProperties(String id) {
+        JSONObject properties = new JSONObject();
+        properties.put("name", "node" + id);
+        return properties;
+    }
+    
+    private static String createGraphResponse(String startId, String endId, String relationshipId) {
+        String node = "{\"id\":\"%s\",\"labels\":[\"person\"],\"properties\":{\"name\":\"node%<s\"}}";
+        return "{\"results\":[{\"columns\":[\"n\",\"r\",\"m\"],\"data\":[{\"row\":[{},{},{}],\"graph\":{\"nodes\":[" 
+                + String.format(node, startId) + "," + String.format(node, endId) + "],\"relationships\":[{\"id\":\"" + relationshipId 
+                + "\",\"type\":\"KNOWS\",\"startNode\":\"" + startId + "\",\"endNode\":\"" + endId + "\",\"properties\":{}}]}}]}],\"errors\":[]}";
+    }
+    
+    private CypherToJGraphT createGraphLoader() {
+        CypherToJGraphT graphLoader = new CypherToJGraphT();
+        graphLoader.setHost("127.0.0.1");
+        graphLoader.setPort(String.valueOf(server.getPort()));
+        return graphLoader;
+    }
+}
@@ -0,0 +1,136 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.HashSet;
+import java.util.Random;
+
+import org.jgrapht.DirectedGraph;
+import org.jgrapht.graph.DirectedPseudograph;
+import org.junit.Test;
+import org.murygin.neo4j.Edge;
+import org.murygin.neo4j.FrozenGraph;
+import org.murygin.neo4j.Node;
+import org.murygin.neo4j.alg.IndexedGraph;
+
+public class FrozenGraphTest {
+
+    @Test
+    public void testFreeze() {
+        DirectedGraph<Node, Edge> graph = createRandomGraph(100, 500);
+        FrozenGraph frozenGraph = FrozenGraph.freeze(graph);
+        assertEquals(graph.vertexSet(), frozenGraph.vertexSet());
+        assertEquals(graph.edgeSet(), frozenGraph.edgeSet());
+        for (Node node : graph.vertexSet()) {
+            assertEquals(graph.outDegreeOf(node), frozenGraph.outDegreeOf(node));
+            assertEquals(graph.inDegreeOf(node), frozenGraph.inDegreeOf(node));
+            assertEquals(graph.outgoingEdgesOf(node), frozenGraph.outgoingEdgesOf(node));
+            assertEquals(graph.incomingEdgesOf(node), frozenGraph.incomingEdgesOf(node));
+            assertEquals(new HashSet<Edge>(graph.edgesOf(node)), new HashSet<Edge>(frozenGraph.edgesOf(node)));
+            assertEquals(graph.edgesOf(node).size(), frozenGraph.edgesOf(node).size());
+            for (Node target : graph.vertexSet()) {
+                assertEquals(graph.getAllEdges(node, target), frozenGraph.getAllEdges(node, target));
+                assertEquals(graph.containsEdge(node, target), frozenGraph.containsEdge(node, target));
+            }
+        }
+        for (Edge edge : graph.edgeSet()) {
+            assertEquals(graph.getEdgeSource(edge), frozenGraph.getEdgeSource(edge));
+            assertEquals(graph.getEdgeTarget(edge), frozenGraph.getEdgeTarget(edge));
+        }
+    }
+    
+    @Test
+    public void testSortedAdjacency() {
+        IndexedGraph indexedGraph = FrozenGraph.freeze(createRandomGraph(50, 300)).getIndexedGraph();
+        for (int node = 0; node < indexedGraph.getNumberOfNodes(); node++) {
+            for (int slot = indexedGraph.getOutStart(node) + 1; slot < indexedGraph.getOutEnd(node); slot++) {
+                assertTrue("Outgoing edges not sorted", indexedGraph.getOutTarget(slot - 1) <= indexedGraph.getOutTarget(slot));
+            }
+            for (int slot = indexedGraph.getInStart(node) + 1; slot < indexedGraph.getInEnd(node); slot++) {
+                assertTrue("Incoming edges not sorted", indexedGraph.getInSource(slot - 1) <= indexedGraph.getInSource(slot));
+            }
+        }
+    }
+    
+    @Test
+    public void testSharedIndexedGraph() {
+        FrozenGraph frozenGraph = FrozenGraph.freeze(createRandomGraph(20, 60));
+        IndexedGraph indexedGraph = IndexedGraph.create(frozenGraph);
+        assertSame(frozenGraph.getIndexedGraph(), indexedGraph);
+        IndexedGraph weighted = IndexedGraph.create(frozenGraph, edge -> 2.0);
+        assertEquals(indexedGraph.getNumberOfEdges(), weighted.getNumberOfEdges());
+        for (int slot = 0; slot < weighted.getNumberOfEdges(); slot++) {
+            assertSame(indexedGraph.getOutEdge(slot), weighted.getOutEdge(slot));
+            assertEquals(1.0, indexedGraph.getOutWeight(slot), 0.0);
+            assertEquals(2.0, weighted.getOutWeight(slot), 0.0);
+        }
+    }
+    
+    @Test
+    public void testOtherIds() {
+        DirectedGraph<Node, Edge> graph = new DirectedPseudograph<Node, Edge>(Edge.class);
+        Node a = new Node("a");
+        Node b = new Node("01");
+        Node c = new Node("1");
+        graph.addVertex(a);
+        graph.addVertex(b);
+        graph.addVertex(c);
+        Edge ab = new Edge(null, a, b, "LINK");
+        Edge bc = new Edge("x", b, c, "LINK");
+        Edge ca = new Edge("1", c, a, "LINK");
+        graph.addEdge(a, b, ab);
+        graph.addEdge(b, c, bc);
+        graph.addEdge(c, a, ca);
+        FrozenGraph frozenGraph = FrozenGraph.freeze(graph);
+        assertTrue(frozenGraph.containsVertex(new Node("01")));
+        assertFalse(frozenGraph.containsVertex(new Node("001")));
+        assertTrue(frozenGraph.containsEdge(new Edge(null, a, b, "LINK")));
+        assertTrue(frozenGraph.containsEdge(new Edge("x", null, null, null)));
+        assertFalse(frozenGraph.containsEdge(new Edge("01", null, null, null)));
+        assertEquals(b, frozenGraph.getEdgeTarget(ab));
+        assertEquals(c, frozenGraph.getEdgeTarget(bc));
+        assertEquals(a, frozenGraph.getEdgeTarget(ca));
+        assertEquals(graph.edgeSet(), frozenGraph.edgeSet());
+    }
+    
+    @Test(expected = UnsupportedOperationException.class)
+    public void testImmutable() {
+        FrozenGraph frozenGraph = FrozenGraph.freeze(createRandomGraph(10, 20));
+        frozenGraph.removeVertex(frozenGraph.getNode(0));
+    }
+
+    private DirectedGraph<Node, Edge> createRandomGraph(int numberOfNodes, int numberOfEdges) {
+        DirectedGraph<Node, Edge> graph = new DirectedPseudograph<Node, Edge>(Edge.class);
+        Node[] nodes = new Node[numberOfNodes];
+        for (int i = 0; i < numberOfNodes; i++) {
+            nodes[i] = new Node(String.valueOf(i));
+            graph.addVertex(nodes[i]);
+        }
+        Random random = new Random(42);
+        for (int i = 0; i < numberOfEdges; i++) {
+            Node source = nodes[random.nextInt(numberOfNodes)];
+            Node target = nodes[random.nextInt(numberOfNodes)];
+            graph.addEdge(source, target, new Edge(String.valueOf(i), source, target, "LINK"));
+        }
+        return graph;
+    }
+}
@@ -0,0 +1,177 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.jgrapht.DirectedGraph;
+import org.jgrapht.graph.DirectedPseudograph;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.junit.Test;
+import org.murygin.neo4j.CypherToJGraphT;
+import org.murygin.neo4j.Edge;
+import org.murygin.neo4j.FrozenGraph;
+import org.murygin.neo4j.GraphSnapshot;
+import org.murygin.neo4j.GraphWriter;
+import org.murygin.neo4j.Node;
+import org.murygin.neo4j.alg.DegreeDistribution;
+import org.murygin.neo4j.alg.GraphAnalytics;
+import org.murygin.neo4j.alg.IndexedGraph;
+import org.murygin.neo4j.load.StubNeo4jServer;
+
+public class GraphAnalyticsTest {
+
+    @Test
+    public void testPageRank() {
+        DirectedGraph<Node, Edge> graph = createGraph();
+        addCycle(graph, "a", 4);
+        GraphAnalytics analytics = new GraphAnalytics(graph);
+        double[] ranks = analytics.pageRank();
+        for (double rank : ranks) {
+            assertTrue("Rank in cycle is not 0.25: " + rank, Math.abs(rank - 0.25) < 1e-6);
+        }
+        addStar(graph, "s", 5);
+        analytics = new GraphAnalytics(graph);
+        ranks = analytics.pageRank();
+        double sum = 0;
+        for (double rank : ranks) {
+            sum += rank;
+        }
+        assertTrue("Ranks do not sum up to 1: " + sum, Math.abs(sum - 1) < 1e-6);
+        analytics.writeProperty("rank", ranks);
+        Node center = getNode(graph, "s");
+        Node leaf = getNode(graph, "s1");
+        assertTrue("Leaf rank not greater than center rank", 
+                Double.parseDouble(leaf.getProperty("rank")) > Double.parseDouble(center.getProperty("rank")));
+    }
+    
+    @Test
+    public void testWeaklyConnectedComponents() {
+        DirectedGraph<Node, Edge> graph = createGraph();
+        addCycle(graph, "a", 100);
+        addStar(graph, "s", 10);
+        graph.addVertex(new Node("isolated"));
+        GraphAnalytics analytics = new GraphAnalytics(graph);
+        int[] components = analytics.weaklyConnectedComponents();
+        assertTrue("Not exactly 3 components", GraphAnalytics.countComponents(components) == 3);
+        analytics.writeComponents("component", components);
+        assertTrue("Nodes of cycle in different components", 
+                getNode(graph, "a0").getProperty("component").equals(getNode(graph, "a99").getProperty("component")));
+        assertTrue("Star and cycle in same component", 
+                !getNode(graph, "a0").getProperty("component").equals(getNode(graph, "s3").getProperty("component")));
+    }
+    
+    @Test
+    public void testDegreeDistribution() {
+        DirectedGraph<Node, Edge> graph = createGraph();
+        addStar(graph, "s", 10);
+        GraphAnalytics analytics = new GraphAnalytics(graph);
+        DegreeDistribution out = analytics.degreeDistribution(DegreeDistribution.Direction.OUT);
+        assertTrue("Wrong maximum out degree: " + out, out.getMax() == 10);
+        assertTrue("Wrong number of leaves: " + out, out.getHistogram().get(0) == 10);
+        DegreeDistribution both = analytics.degreeDistribution(DegreeDistribution.Direction.BOTH);
+        assertTrue("Wrong mean degree: " + both, Math.abs(both.getMean() - 20.0 / 11) < 1e-9);
+    }
+
+    @Test
+    public void testWriteBack() throws Exception {
+        StubNeo4jServer server = new StubNeo4jServer(0);
+        // (0)->(1)->..->(19)
+        server.setNumberOfNodes(20);
+        server.start();
+        try {
+            CypherToJGraphT graphLoader = new CypherToJGraphT();
+            graphLoader.setHost("127.0.0.1");
+            graphLoader.setPort(String.valueOf(server.getPort()));
+            DirectedGraph<Node, Edge> graph = graphLoader.execute("MATCH (n)-[r]->(m) RETURN n,r,m");
+            GraphSnapshot snapshot = GraphSnapshot.create(graph);
+            FrozenGraph frozenGraph = graphLoader.freeze();
+            GraphAnalytics analytics = new GraphAnalytics(IndexedGraph.create(frozenGraph));
+            double[] ranks = analytics.pageRank();
+            int[] degrees = analytics.degrees(DegreeDistribution.Direction.OUT);
+            analytics.writeProperty("rank", ranks);
+            analytics.writeProperty("degree", degrees);
+            analytics.writeComponents("component", analytics.weaklyConnectedComponents());
+            // the values are written onto the nodes of the loaded graph
+            for (Node node : graph.vertexSet()) {
+                int index = analytics.getGraph().getIndex(node);
+                assertEquals(ranks[index], (Double) node.getPropertyValue("rank"), 0);
+                assertEquals(String.valueOf(ranks[index]), node.getProperty("rank"));
+                assertEquals(Integer.valueOf(node.getId().equals("19") ? 0 : 1), node.getPropertyValue("degree"));
+                assertEquals(getNode(graph, "0").getProperty("component"), node.getProperty("component"));
+                assertEquals("station" + node.getId(), node.getProperty("name"));
+            }
+            // the results are sent back to Neo4j as numbers
+            server.setRecordRequests(true);
+            GraphWriter writer = new GraphWriter();
+            writer.setHost("127.0.0.1");
+            writer.setPort(String.valueOf(server.getPort()));
+            assertEquals(20, writer.writeChanges(graph, snapshot));
+            List<StubNeo4jServer.ReceivedRequest> requests = server.getReceivedRequests();
+            assertEquals(1, requests.size());
+            assertEquals(GraphWriter.UPDATE_NODES, requests.get(0).getQuery(0));
+            for (Object row : (JSONArray) requests.get(0).getParameters(0).get(GraphWriter.PARAMETER_ROWS)) {
+                JSONObject properties = (JSONObject) ((JSONObject) row).get("properties");
+                assertEquals(3, properties.size());
+                assertTrue(properties.get("rank") instanceof Double);
+                assertTrue(properties.get("degree") instanceof Long);
+            }
+        } finally {
+            server.stop();
+        }
+    }
+
+    private DirectedGraph<Node, Edge> createGraph() {
+        return new DirectedPseudograph<Node, Edge>(Edge.class);
+    }
+
+    private void addCycle(DirectedGraph<Node, Edge> graph, String prefix, int size) {
+        for (int i = 0; i < size; i++) {
+            graph.addVertex(new Node(prefix + i));
+        }
+        for (int i = 0; i < size; i++) {
+            addEdge(graph, getNode(graph, prefix + i), getNode(graph, prefix + ((i + 1) % size)));
+        }
+    }
+
+    private void addStar(DirectedGraph<Node, Edge> graph, String prefix, int size) {
+        Node center = new Node(prefix);
+        graph.addVertex(center);
+        for (int i = 1; i <= size; i++) {
+            Node leaf = new Node(prefix + i);
+            graph.addVertex(leaf);
+            addEdge(graph, center, leaf);
+        }
+    }
+
+    private void addEdge(DirectedGraph<Node, Edge> graph, Node source, Node target) {
+        graph.addEdge(source, target, new Edge(source.getId() + "-" + target.getId(), source, target, "link"));
+    }
+
+    private Node getNode(DirectedGraph<Node, Edge> graph, String id) {
+        for (Node node : graph.vertexSet()) {
+            if (id.equals(node.getId())) {
+                return node;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,234 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.murygin.neo4j.CypherToJson;
+import org.murygin.neo4j.Deadline;
+import org.murygin.neo4j.Flow;
+import org.murygin.neo4j.GraphEvent;
+import org.murygin.neo4j.GraphEventPublisher;
+import org.murygin.neo4j.QueryCancelledException;
+import org.murygin.neo4j.load.StubNeo4jServer;
+
+public class GraphEventPublisherTest {
+
+    private static final String QUERY = "MATCH (n)-[r]->(m) RETURN n,r,m";
+    
+    private StubNeo4jServer server;
+    
+    @Before
+    public void startServer() throws Exception {
+        server = new StubNeo4jServer(0);
+        server.setNumberOfNodes(200);
+        server.start();
+    }
+    
+    @After
+    public void stopServer() {
+        server.stop();
+    }
+    
+    @Test
+    public void testEvents() {
+        EventRecorder recorder = new EventRecorder(Long.MAX_VALUE);
+        createPublisher().subscribe(recorder);
+        assertTrue(recorder.completed);
+        assertNull(recorder.error);
+        assertEquals(399, recorder.events.size());
+        // the first data entry: (0)-[0:NEXT]->(1)
+        GraphEvent first = recorder.events.get(0);
+        assertEquals(GraphEvent.Type.NODE, first.getType());
+        assertEquals("0", first.getNode().getId());
+        assertEquals("station", first.getNode().getLabels().get(0));
+        assertEquals("station0", first.getNode().getProperty("name"));
+        assertEquals("1", recorder.events.get(1).getNode().getId());
+        GraphEvent relationship = recorder.events.get(2);
+        assertEquals(GraphEvent.Type.RELATIONSHIP, relationship.getType());
+        assertEquals("0", relationship.getEdge().getId());
+        assertEquals("NEXT", relationship.getEdge().getType());
+        assertEquals("0", relationship.getEdge().getSourceNode().getId());
+        assertEquals("1", relationship.getEdge().getTargetNode().getId());
+        // node 1 is returned again in the second entry
+        assertEquals("2", recorder.events.get(3).getNode().getId());
+        assertEquals("1", recorder.events.get(4).getEdge().getId());
+    }
+    
+    @Test
+    public void testDuplicates() {
+        GraphEventPublisher publisher = createPublisher();
+        publisher.setDistinct(false);
+        EventRecorder recorder = new EventRecorder(Long.MAX_VALUE);
+        publisher.subscribe(recorder);
+        assertTrue(recorder.completed);
+        assertEquals(199 * 3, recorder.events.size());
+    }
+    
+    @Test
+    public void testDemand() {
+        EventRecorder recorder = new EventRecorder(4);
+        createPublisher().subscribe(recorder);
+        assertEquals(4, recorder.events.size());
+        assertFalse(recorder.completed);
+        recorder.subscription.request(1);
+        assertEquals(5, recorder.events.size());
+        recorder.subscription.request(1000);
+        assertTrue(recorder.completed);
+        assertEquals(399, recorder.events.size());
+        // no signals after completion
+        recorder.subscription.request(1);
+        assertEquals(399, recorder.events.size());
+        assertNull(recorder.error);
+    }
+    
+    @Test
+    public void testInvalidRequest() {
+        EventRecorder recorder = new EventRecorder(2);
+        createPublisher().subscribe(recorder);
+        recorder.subscription.request(0);
+        assertTrue(recorder.error instanceof IllegalArgumentException);
+        assertFalse(recorder.completed);
+        recorder.subscription.request(10);
+        assertEquals(2, recorder.events.size());
+    }
+    
+    @Test
+    public void testCancel() {
+        EventRecorder recorder = new EventRecorder(1) {
+            @Override
+            public void onNext(GraphEvent event) {
+                super.onNext(event);
+                if (events.size() == 5) {
+                    subscription.cancel();
+                }
+                subscription.request(1);
+            }
+        };
+        createPublisher().subscribe(recorder);
+        assertEquals(5, recorder.events.size());
+        assertFalse(recorder.completed);
+        assertNull(recorder.error);
+    }
+    
+    @Test
+    public void testCancelDuringSlowStream() throws Exception {
+        // the drain loop blocks in a read until the next chunk arrives
+        server.setStreamDelay(2000);
+        GraphEventPublisher publisher = createPublisher();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        publisher.setExecutor(executor);
+        EventRecorder recorder = new EventRecorder(Long.MAX_VALUE);
+        publisher.subscribe(recorder);
+        Thread.sleep(300);
+        long start = System.currentTimeMillis();
+        recorder.subscription.cancel();
+        executor.shutdown();
+        assertTrue("Read not aborted", executor.awaitTermination(1000, TimeUnit.MILLISECONDS));
+        assertTrue(System.currentTimeMillis() - start < 1000);
+        int numberOfEvents = recorder.events.size();
+        assertTrue(numberOfEvents < 399);
+        assertFalse(recorder.completed);
+        assertNull(recorder.error);
+    }
+    
+    @Test
+    public void testDeadlineDuringSlowStream() {
+        server.setStreamDelay(2000);
+        CypherToJson executer = createExecuter();
+        executer.setDeadline(Deadline.after(500, TimeUnit.MILLISECONDS));
+        EventRecorder recorder = new EventRecorder(Long.MAX_VALUE);
+        long start = System.currentTimeMillis();
+        executer.publish(QUERY).subscribe(recorder);
+        long elapsed = System.currentTimeMillis() - start;
+        assertTrue("Cancelled too late: " + elapsed + " ms", elapsed < 1500);
+        assertTrue(String.valueOf(recorder.error), recorder.error instanceof QueryCancelledException);
+        assertFalse(recorder.completed);
+    }
+    
+    @Test
+    public void testCancelDoesNotCancelDeadline() {
+        CypherToJson executer = createExecuter();
+        Deadline deadline = Deadline.none();
+        executer.setDeadline(deadline);
+        EventRecorder cancelled = new EventRecorder(1);
+        executer.publish(QUERY).subscribe(cancelled);
+        cancelled.subscription.cancel();
+        assertFalse(deadline.isCancelled());
+        EventRecorder recorder = new EventRecorder(Long.MAX_VALUE);
+        executer.publish(QUERY).subscribe(recorder);
+        assertTrue(recorder.completed);
+        assertEquals(399, recorder.events.size());
+    }
+    
+    private GraphEventPublisher createPublisher() {
+        return createExecuter().publish(QUERY);
+    }
+    
+    private CypherToJson createExecuter() {
+        CypherToJson executer = new CypherToJson();
+        executer.setHost("127.0.0.1");
+        executer.setPort(String.valueOf(server.getPort()));
+        return executer;
+    }
+    
+    private static class EventRecorder implements Flow.Subscriber<GraphEvent> {
+        
+        private final long initialRequest;
+        final List<GraphEvent> events = new CopyOnWriteArrayList<GraphEvent>();
+        volatile Flow.Subscription subscription;
+        volatile boolean completed = false;
+        volatile Throwable error;
+        
+        EventRecorder(long initialRequest) {
+            this.initialRequest = initialRequest;
+        }
+        
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(initialRequest);
+        }
+
+        @Override
+        public void onNext(GraphEvent event) {
+            events.add(event);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
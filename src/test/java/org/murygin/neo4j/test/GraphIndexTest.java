@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j.test;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jgrapht.DirectedGraph;
+import org.jgrapht.graph.DirectedPseudograph;
+import org.junit.Test;
+import org.murygin.neo4j.Edge;
+import org.murygin.neo4j.GraphIndex;
+import org.murygin.neo4j.Node;
+
+public class GraphIndexTest {
+
+    @Test
+    public void testIndex() {
+        DirectedGraph<Node, Edge> graph = new DirectedPseudograph<Node, Edge>(Edge.class);
+        Node previous = null;
+        for (int i = 0; i < 20; i++) {
+            Node node = new Node(String.valueOf(i));
+            node.addLabel((i % 2 == 0) ? "even" : "odd");
+            node.addProperty("name", "node" + i);
+            node.addProperty("number", String.valueOf(i));
+            graph.addVertex(node);
+            if (previous != null) {
+                graph.addEdge(previous, node, new Edge(String.valueOf(i), previous, node, (i < 10) ? "LOW" : "HIGH"));
+            }
+            previous = node;
+        }
+        GraphIndex index = GraphIndex.create(graph, Arrays.asList("name"), Arrays.asList("number"));
+        assertEquals(10, index.getNodesByLabel("even").size());
+        assertEquals(0, index.getNodesByLabel("none").size());
+        assertEquals(9, index.getEdgesByType("LOW").size());
+        assertEquals(10, index.getEdgesByType("HIGH").size());
+        assertEquals("7", index.getNode("name", "node7").getId());
+        assertEquals(Collections.emptySet(), index.getNodes("name", "node20"));
+        // numbers are sorted by value: 2 < 10
+        List<Node> nodes = index.getNodesInRange("number", "2", "10");
+        assertEquals(9, nodes.size());
+        assertEquals("2", nodes.get(0).getId());
+        assertEquals("10", nodes.get(8).getId());
+        assertEquals(18, index.getNodesInRange("number", "2", null).size());
+    }
+    
+    @Test
+    public void testMixedValues() {
+        DirectedGraph<Node, Edge> graph = new DirectedPseudograph<Node, Edge>(Edge.class);
+        String[] values = {"2nd street", "1e3", "2015-01-01", "-5", "2.5", "10", "1.", "abc", "+3", "e5", "-", "2015-01-02"};
+        for (int i = 0; i < values.length; i++) {
+            Node node = new Node(String.valueOf(i));
+            node.addProperty("value", values[i]);
+            graph.addVertex(node);
+        }
+        GraphIndex index = GraphIndex.create(graph, Collections.<String>emptyList(), Arrays.asList("value"));
+        List<String> sorted = new ArrayList<String>();
+        for (Node node : index.getNodesInRange("value", null, null)) {
+            sorted.add(node.getProperty("value"));
+        }
+        // numbers by value first, then all other values by string
+        assertEquals(Arrays.asList("-5", "1.", "2.5", "+3", "10", "1e3", 
+                "-", "2015-01-01", "2015-01-02", "2nd street", "abc", "e5"), sorted);
+        assertEquals("4", index.getNode("value", "2.5").getId());
+        assertEquals(2, index.getNodesInRange("value", "2015-01-01", "2015-01-02").size());
+        assertEquals(4, index.getNodesInRange("value", "1", "1000").size());
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingIndex() {
+        new GraphIndex().getNodesInRange("number", "1", "2");
+    }
+}
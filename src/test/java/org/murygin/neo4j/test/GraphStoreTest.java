@@ -0,0 +1,98 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.jgrapht.DirectedGraph;
+import org.junit.Test;
+import org.murygin.neo4j.CypherToJGraphT;
+import org.murygin.neo4j.Edge;
+import org.murygin.neo4j.GraphStore;
+import org.murygin.neo4j.GraphView;
+import org.murygin.neo4j.Node;
+import org.murygin.neo4j.load.StubNeo4jServer;
+
+public class GraphStoreTest {
+
+    private static final String SMALL_QUERY = "MATCH (n)-[r]->(m) WHERE id(r) = 0 RETURN n,r,m";
+    private static final String SMALL_RESPONSE = "{\"results\":[{\"columns\":[\"n\",\"r\",\"m\"],\"data\":[{\"graph\":{"
+            + "\"nodes\":[{\"id\":\"0\",\"labels\":[\"station\"],\"properties\":{}},{\"id\":\"1\",\"labels\":[\"station\"],\"properties\":{}}],"
+            + "\"relationships\":[{\"id\":\"0\",\"type\":\"NEXT\",\"startNode\":\"0\",\"endNode\":\"1\",\"properties\":{}}]}}]}],\"errors\":[]}";
+    
+    @Test
+    public void testViews() {
+        GraphStore store = new GraphStore();
+        GraphView view1 = store.createView();
+        GraphView view2 = store.createView();
+        Node a = new Node("1");
+        Node b = new Node("2");
+        Node c = new Node("3");
+        view1.addVertex(a);
+        view1.addVertex(b);
+        view1.addEdge(a, b, new Edge("10", a, b, "LINK"));
+        view2.addVertex(new Node("2"));
+        view2.addVertex(c);
+        view2.addEdge(b, c, new Edge("11", b, c, "LINK"));
+        assertEquals(3, store.getNumberOfNodes());
+        assertEquals(2, store.getNumberOfEdges());
+        assertSame(b, view2.vertexSet().iterator().next());
+        assertEquals(2, view1.vertexSet().size());
+        assertEquals(2, view2.vertexSet().size());
+        assertFalse(view1.containsVertex(c));
+        assertEquals(1, view1.outDegreeOf(a));
+        assertEquals(0, view1.outDegreeOf(b));
+        assertEquals(1, view2.outDegreeOf(b));
+        assertEquals(1, view2.edgesOf(b).size());
+        assertTrue(view1.removeVertex(b));
+        assertEquals(0, view1.edgeSet().size());
+        assertTrue(view2.containsVertex(b));
+        assertEquals(1, view2.edgeSet().size());
+    }
+    
+    @Test
+    public void testLoadViews() throws Exception {
+        StubNeo4jServer server = new StubNeo4jServer(0);
+        server.setNumberOfNodes(20);
+        server.addRecordedResponse(SMALL_QUERY, SMALL_RESPONSE);
+        server.start();
+        try {
+            CypherToJGraphT graphLoader = new CypherToJGraphT();
+            graphLoader.setHost("127.0.0.1");
+            graphLoader.setPort(String.valueOf(server.getPort()));
+            GraphStore store = new GraphStore();
+            graphLoader.setGraphStore(store);
+            DirectedGraph<Node, Edge> all = graphLoader.execute("MATCH (n)-[r]->(m) RETURN n,r,m");
+            DirectedGraph<Node, Edge> small = graphLoader.execute(SMALL_QUERY);
+            assertEquals(20, all.vertexSet().size());
+            assertEquals(19, all.edgeSet().size());
+            assertEquals(2, small.vertexSet().size());
+            assertEquals(1, small.edgeSet().size());
+            assertEquals(20, store.getNumberOfNodes());
+            assertEquals(19, store.getNumberOfEdges());
+            Edge edge = small.edgeSet().iterator().next();
+            assertSame(store.getEdge("0"), edge);
+            assertSame(store.getNode("0"), small.getEdgeSource(edge));
+            assertTrue(all.containsEdge(edge));
+        } finally {
+            server.stop();
+        }
+    }
+}
@@ -0,0 +1,213 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.jgrapht.DirectedGraph;
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.murygin.neo4j.CypherToJGraphT;
+import org.murygin.neo4j.Edge;
+import org.murygin.neo4j.GraphSnapshot;
+import org.murygin.neo4j.GraphWriter;
+import org.murygin.neo4j.Node;
+import org.murygin.neo4j.load.StubNeo4jServer;
+
+public class GraphWriterTest {
+
+    private static final String QUERY = "MATCH (n)-[r]->(m) RETURN n,r,m";
+    
+    private StubNeo4jServer server;
+    
+    @Before
+    public void startServer() throws Exception {
+        server = new StubNeo4jServer(0);
+        // (0)-[0]->(1)-[1]->(2)-[2]->(3)-[3]->(4)
+        server.setNumberOfNodes(5);
+        server.start();
+    }
+    
+    @After
+    public void stopServer() {
+        server.stop();
+    }
+    
+    @Test
+    public void testTypedPropertiesLoaded() {
+        CypherToJGraphT graphLoader = createGraphLoader();
+        assertTypedProperties(graphLoader.execute(QUERY));
+        assertTypedProperties(createGraphLoader().executeStreaming(QUERY));
+    }
+
+    private static void assertTypedProperties(DirectedGraph<Node, Edge> graph) {
+        Node node = findNode(graph, "1");
+        assertEquals("1", node.getProperty("number"));
+        assertEquals(Long.valueOf(1), node.getPropertyValue("number"));
+        assertEquals("station1", node.getPropertyValue("name"));
+        assertEquals(Long.valueOf(1), findEdge(graph, "1").getPropertyValue("weight"));
+        // a changed string replaces the typed value
+        node.getProperties().put("number", "x");
+        assertEquals("x", node.getPropertyValue("number"));
+        node.addProperty("number", "2");
+        assertEquals("2", node.getPropertyValue("number"));
+    }
+    
+    @Test
+    public void testWriteChanges() {
+        DirectedGraph<Node, Edge> graph = createGraphLoader().execute(QUERY);
+        GraphSnapshot snapshot = GraphSnapshot.create(graph);
+        assertEquals(Long.valueOf(1), snapshot.getNodeProperties("1").get("number"));
+        
+        Node node1 = findNode(graph, "1");
+        node1.addProperty("number", "7");
+        node1.addProperty("rank", 0.5);
+        node1.getProperties().remove("name");
+        findNode(graph, "2").addProperty("number", "x");
+        graph.removeEdge(findEdge(graph, "0"));
+        graph.removeVertex(findNode(graph, "4"));
+        Edge newEdge = new Edge(findNode(graph, "0"), findNode(graph, "2"), "LINK");
+        newEdge.addProperty("since", 2020L);
+        graph.addEdge(newEdge.getSourceNode(), newEdge.getTargetNode(), newEdge);
+        
+        server.setRecordRequests(true);
+        GraphWriter writer = createGraphWriter();
+        assertEquals(6, writer.writeChanges(graph, snapshot));
+        
+        List<StubNeo4jServer.ReceivedRequest> requests = server.getReceivedRequests();
+        assertEquals(4, requests.size());
+        // relationships are deleted before their nodes
+        assertEquals(GraphWriter.DELETE_RELATIONS, requests.get(0).getQuery(0));
+        assertEquals("[0, 3]", sorted(getRows(requests.get(0))).toString());
+        assertEquals(GraphWriter.DELETE_NODES, requests.get(1).getQuery(0));
+        assertFalse(requests.get(1).getQuery(0).contains("DETACH"));
+        assertEquals("[4]", getRows(requests.get(1)).toString());
+        
+        assertEquals(GraphWriter.UPDATE_NODES, requests.get(2).getQuery(0));
+        JSONArray nodeRows = getRows(requests.get(2));
+        assertEquals(2, nodeRows.size());
+        JSONObject properties1 = getProperties(nodeRows, 1);
+        assertEquals(Long.valueOf(7), properties1.get("number"));
+        assertEquals(Double.valueOf(0.5), properties1.get("rank"));
+        assertTrue(properties1.containsKey("name"));
+        assertNull(properties1.get("name"));
+        assertEquals(3, properties1.size());
+        // a string which is not a number is sent as string
+        assertEquals("x", getProperties(nodeRows, 2).get("number"));
+        
+        assertEquals(String.format(GraphWriter.CREATE_RELATIONS, "`LINK`"), requests.get(3).getQuery(0));
+        JSONObject newRow = (JSONObject) getRows(requests.get(3)).get(0);
+        assertEquals(Long.valueOf(0), newRow.get("start"));
+        assertEquals(Long.valueOf(2), newRow.get("end"));
+        assertEquals(Long.valueOf(2020), ((JSONObject) newRow.get("properties")).get("since"));
+    }
+    
+    @Test
+    public void testUnchangedGraph() {
+        DirectedGraph<Node, Edge> graph = createGraphLoader().execute(QUERY);
+        GraphSnapshot snapshot = GraphSnapshot.create(graph);
+        // the same value as string is no change
+        findNode(graph, "3").addProperty("number", "3");
+        server.setRecordRequests(true);
+        assertEquals(0, createGraphWriter().writeChanges(graph, snapshot));
+        assertTrue(server.getReceivedRequests().isEmpty());
+    }
+    
+    @Test
+    public void testNodeWithUnknownRelationships() {
+        DirectedGraph<Node, Edge> graph = createGraphLoader().execute(QUERY);
+        GraphSnapshot snapshot = GraphSnapshot.create(graph);
+        graph.removeVertex(findNode(graph, "4"));
+        // Neo4j rejects deleting a node with relationships
+        server.setStatementHandler((query, parameters) -> {
+            if (GraphWriter.DELETE_NODES.equals(query)) {
+                throw new IllegalStateException("Cannot delete node<4>, because it still has relationships");
+            }
+            return null;
+        });
+        try {
+            createGraphWriter().writeChanges(graph, snapshot);
+            fail("Deleting a node with unknown relationships not rejected");
+        } catch (RuntimeException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("still has relationships"));
+        }
+    }
+    
+    private static JSONArray getRows(StubNeo4jServer.ReceivedRequest request) {
+        return (JSONArray) request.getParameters(0).get(GraphWriter.PARAMETER_ROWS);
+    }
+    
+    private static JSONObject getProperties(JSONArray rows, long id) {
+        for (Object row : rows) {
+            if (Long.valueOf(id).equals(((JSONObject) row).get("id"))) {
+                return (JSONObject) ((JSONObject) row).get("properties");
+            }
+        }
+        throw new AssertionError("Row not found: " + id);
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static List<Long> sorted(JSONArray ids) {
+        List<Long> sorted = new ArrayList<Long>(ids);
+        Collections.sort(sorted);
+        return sorted;
+    }
+    
+    private static Node findNode(DirectedGraph<Node, Edge> graph, String id) {
+        for (Node node : graph.vertexSet()) {
+            if (id.equals(node.getId())) {
+                return node;
+            }
+        }
+        throw new AssertionError("Node not found: " + id);
+    }
+    
+    private static Edge findEdge(DirectedGraph<Node, Edge> graph, String id) {
+        for (Edge edge : graph.edgeSet()) {
+            if (id.equals(edge.getId())) {
+                return edge;
+            }
+        }
+        throw new AssertionError("Relationship not found: " + id);
+    }
+    
+    private GraphWriter createGraphWriter() {
+        GraphWriter writer = new GraphWriter();
+        writer.setHost("127.0.0.1");
+        writer.setPort(String.valueOf(server.getPort()));
+        writer.setParallelism(1);
+        return writer;
+    }
+    
+    private CypherToJGraphT createGraphLoader() {
+        CypherToJGraphT graphLoader = new CypherToJGraphT();
+        graphLoader.setHost("127.0.0.1");
+        graphLoader.setPort(String.valueOf(server.getPort()));
+        return graphLoader;
+    }
+}
@@ -0,0 +1,146 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.json.simple.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.murygin.neo4j.CypherToJson;
+import org.murygin.neo4j.Deadline;
+import org.murygin.neo4j.HedgePolicy;
+import org.murygin.neo4j.QueryCancelledException;
+import org.murygin.neo4j.load.StubNeo4jServer;
+
+public class HedgePolicyTest {
+
+    private static final String QUERY = "MATCH (n)-[r]->(m) RETURN n,r,m";
+    private static final long SLOW_RESPONSE = 1000;
+    
+    private StubNeo4jServer slowServer;
+    private StubNeo4jServer fastServer;
+    
+    @Before
+    public void startServers() throws Exception {
+        slowServer = new StubNeo4jServer(0);
+        slowServer.setNumberOfNodes(10);
+        slowServer.setResponseDelay(SLOW_RESPONSE);
+        slowServer.start();
+        fastServer = new StubNeo4jServer(0);
+        fastServer.setNumberOfNodes(10);
+        fastServer.start();
+    }
+    
+    @After
+    public void stopServers() {
+        slowServer.stop();
+        fastServer.stop();
+    }
+    
+    @Test
+    public void testHedgedRequestWins() {
+        HedgePolicy hedgePolicy = new HedgePolicy("127.0.0.1:" + fastServer.getPort());
+        hedgePolicy.setInitialDelay(50);
+        CypherToJson executer = createExecuter(slowServer);
+        executer.setHedgePolicy(hedgePolicy);
+        long start = System.currentTimeMillis();
+        JSONObject result = executer.execute(QUERY);
+        assertElapsed(start, SLOW_RESPONSE / 2);
+        assertEquals(1, ((List<?>) result.get("results")).size());
+        assertEquals(1, slowServer.getNumberOfRequests());
+        assertEquals(1, fastServer.getNumberOfRequests());
+    }
+    
+    @Test
+    public void testNoHedgeForFastPrimary() {
+        HedgePolicy hedgePolicy = new HedgePolicy("127.0.0.1:" + slowServer.getPort());
+        hedgePolicy.setInitialDelay(SLOW_RESPONSE / 2);
+        CypherToJson executer = createExecuter(fastServer);
+        executer.setHedgePolicy(hedgePolicy);
+        for (int i = 0; i < 5; i++) {
+            executer.execute(QUERY);
+        }
+        assertEquals(5, fastServer.getNumberOfRequests());
+        assertEquals(0, slowServer.getNumberOfRequests());
+    }
+    
+    @Test
+    public void testLatencyOfCancelledPrimary() {
+        HedgePolicy hedgePolicy = new HedgePolicy("127.0.0.1:" + fastServer.getPort());
+        hedgePolicy.setInitialDelay(50);
+        hedgePolicy.setPercentile(1.0);
+        CypherToJson executer = createExecuter(slowServer);
+        executer.setHedgePolicy(hedgePolicy);
+        for (int i = 0; i < HedgePolicy.MIN_SAMPLES; i++) {
+            executer.execute(QUERY);
+        }
+        // the primary is cancelled after the hedge delay, the fast hedged responses alone would shorten the delay
+        assertTrue("Delay: " + hedgePolicy.getDelay(), hedgePolicy.getDelay() >= 50);
+        assertEquals(HedgePolicy.MIN_SAMPLES, fastServer.getNumberOfRequests());
+    }
+    
+    @Test
+    public void testDeadlineWithHedging() {
+        fastServer.setResponseDelay(SLOW_RESPONSE);
+        HedgePolicy hedgePolicy = new HedgePolicy("127.0.0.1:" + fastServer.getPort());
+        hedgePolicy.setInitialDelay(50);
+        CypherToJson executer = createExecuter(slowServer);
+        executer.setHedgePolicy(hedgePolicy);
+        executer.setDeadline(Deadline.after(300, TimeUnit.MILLISECONDS));
+        long start = System.currentTimeMillis();
+        try {
+            executer.execute(QUERY);
+            fail("Deadline not enforced");
+        } catch (QueryCancelledException e) {
+            assertElapsed(start, SLOW_RESPONSE / 2);
+        }
+        // both requests are sent and cancelled
+        assertEquals(1, slowServer.getNumberOfRequests());
+        assertEquals(1, fastServer.getNumberOfRequests());
+    }
+    
+    @Test
+    public void testHostWithoutPort() {
+        HedgePolicy hedgePolicy = new HedgePolicy("127.0.0.1");
+        hedgePolicy.setInitialDelay(50);
+        CypherToJson executer = createExecuter(slowServer);
+        executer.setHedgePolicy(hedgePolicy);
+        executer.execute(QUERY);
+        // the hedge host uses the port of the executer
+        assertEquals(2, slowServer.getNumberOfRequests());
+        assertEquals(0, fastServer.getNumberOfRequests());
+    }
+    
+    private static void assertElapsed(long start, long maxMillis) {
+        long elapsed = System.currentTimeMillis() - start;
+        assertTrue("Too slow: " + elapsed + " ms", elapsed < maxMillis);
+    }
+    
+    private static CypherToJson createExecuter(StubNeo4jServer server) {
+        CypherToJson executer = new CypherToJson();
+        executer.setHost("127.0.0.1");
+        executer.setPort(String.valueOf(server.getPort()));
+        return executer;
+    }
+}
@@ -0,0 +1,235 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.jgrapht.DirectedGraph;
+import org.jgrapht.alg.DijkstraShortestPath;
+import org.jgrapht.graph.AsWeightedGraph;
+import org.jgrapht.graph.DirectedPseudograph;
+import org.junit.Test;
+import org.murygin.neo4j.CypherToJGraphT;
+import org.murygin.neo4j.Edge;
+import org.murygin.neo4j.FrozenGraph;
+import org.murygin.neo4j.Node;
+import org.murygin.neo4j.alg.LandmarkIndex;
+import org.murygin.neo4j.load.StubNeo4jServer;
+
+public class LandmarkIndexTest {
+
+    @Test
+    public void testShortestPathsOnGrid() {
+        DirectedGraph<Node, Edge> graph = createGrid(30, 30);
+        LandmarkIndex index = LandmarkIndex.create(graph, 8, "weight");
+        List<Node> nodes = new ArrayList<Node>(graph.vertexSet());
+        Random random = new Random(42);
+        List<Node> sources = new ArrayList<Node>();
+        List<Node> targets = new ArrayList<Node>();
+        for (int i = 0; i < 50; i++) {
+            sources.add(nodes.get(random.nextInt(nodes.size())));
+            targets.add(nodes.get(random.nextInt(nodes.size())));
+        }
+        List<List<Edge>> paths = index.findPathsBetween(sources, targets);
+        AsWeightedGraph<Node, Edge> weightedGraph = new AsWeightedGraph<Node, Edge>(graph, getWeights(graph));
+        for (int i = 0; i < sources.size(); i++) {
+            double expected = getLength(DijkstraShortestPath.findPathBetween(weightedGraph, sources.get(i), targets.get(i)));
+            double actual = getLength(paths.get(i));
+            assertTrue("Wrong path length: " + actual + ", expected: " + expected, Math.abs(expected - actual) < 1e-9);
+            assertTrue("Lower bound too large", index.getLowerBound(sources.get(i), targets.get(i)) <= expected + 1e-9);
+            assertTrue("Path does not start at source", paths.get(i).isEmpty() || paths.get(i).get(0).getSourceNode().equals(sources.get(i)));
+        }
+    }
+    
+    @Test
+    public void testUnreachable() {
+        DirectedGraph<Node, Edge> graph = createGrid(3, 3);
+        Node isolated = new Node("isolated");
+        graph.addVertex(isolated);
+        LandmarkIndex index = LandmarkIndex.create(graph, 4);
+        Node start = graph.vertexSet().iterator().next();
+        assertTrue("Path to isolated node found", index.findPathBetween(start, isolated) == null);
+        assertTrue("Distance to isolated node not infinite", index.getDistance(start, isolated) == Double.POSITIVE_INFINITY);
+        assertTrue("Path to itself not empty", index.findPathBetween(start, start).isEmpty());
+    }
+
+    @Test
+    public void testLoaderCreatesIndexOnDemand() throws Exception {
+        StubNeo4jServer server = new StubNeo4jServer(0);
+        server.setNumberOfNodes(20);
+        server.start();
+        try {
+            CypherToJGraphT graphLoader = new CypherToJGraphT();
+            graphLoader.setHost("127.0.0.1");
+            graphLoader.setPort(String.valueOf(server.getPort()));
+            assertNull(graphLoader.getLandmarkIndex());
+            graphLoader.execute("MATCH (n)-[r]->(m) RETURN n,r,m");
+            // no landmarks requested
+            assertNull(graphLoader.getLandmarkIndex());
+            graphLoader.setNumberOfLandmarks(2);
+            LandmarkIndex index = graphLoader.getLandmarkIndex();
+            assertEquals(2, index.getLandmarks().size());
+            assertSame(index, graphLoader.getLandmarkIndex());
+            assertEquals(19, index.findPathBetween(new Node("0"), new Node("19")).size());
+            // the next execution invalidates the index
+            graphLoader.execute("MATCH (n)-[r]->(m) RETURN n,r,m");
+            assertNotSame(index, graphLoader.getLandmarkIndex());
+            // an index created after freezing shares the arrays of the frozen graph
+            graphLoader.execute("MATCH (n)-[r]->(m) RETURN n,r,m");
+            FrozenGraph frozenGraph = graphLoader.freeze();
+            assertSame(frozenGraph.getIndexedGraph(), graphLoader.getLandmarkIndex().getGraph());
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    public void testTypedWeights() {
+        DirectedPseudograph<Node, Edge> graph = new DirectedPseudograph<Node, Edge>(Edge.class);
+        Node a = new Node("a");
+        Node b = new Node("b");
+        Node c = new Node("c");
+        graph.addVertex(a);
+        graph.addVertex(b);
+        graph.addVertex(c);
+        Edge direct = new Edge("0", a, c, "road");
+        direct.addProperty("weight", Long.valueOf(10));
+        graph.addEdge(a, c, direct);
+        Edge first = new Edge("1", a, b, "road");
+        first.addProperty("weight", Double.valueOf(2.5));
+        graph.addEdge(a, b, first);
+        // without weight property: 1
+        graph.addEdge(b, c, new Edge("2", b, c, "road"));
+        LandmarkIndex index = LandmarkIndex.create(graph, 2, "weight");
+        assertEquals(3.5, index.getDistance(a, c), 1e-9);
+        direct.addProperty("weight", Boolean.TRUE);
+        try {
+            LandmarkIndex.create(graph, 2, "weight");
+            fail("Boolean weight accepted");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("weight") && e.getMessage().contains(direct.toString()));
+        }
+        direct.addProperty("weight", "far");
+        try {
+            LandmarkIndex.create(graph, 2, "weight");
+            fail("Weight which is not a number accepted");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("far"));
+        }
+    }
+
+    @Test
+    public void testNumberOfLandmarks() {
+        DirectedGraph<Node, Edge> graph = createGrid(10, 10);
+        assertTrue(LandmarkIndex.create(graph, 0).getLandmarks().isEmpty());
+        for (int numberOfLandmarks : new int[] {1, 2, 3, 5, 16}) {
+            List<Node> landmarks = LandmarkIndex.create(graph, numberOfLandmarks, "weight").getLandmarks();
+            assertEquals(numberOfLandmarks, landmarks.size());
+            assertEquals(numberOfLandmarks, new HashSet<Node>(landmarks).size());
+        }
+        // more landmarks than nodes
+        assertEquals(100, LandmarkIndex.create(graph, 200).getLandmarks().size());
+    }
+
+    @Test
+    public void testLoaderCreatesIndexAfterLoad() throws Exception {
+        StubNeo4jServer server = new StubNeo4jServer(0);
+        server.setNumberOfNodes(20);
+        server.start();
+        try {
+            CypherToJGraphT graphLoader = new CypherToJGraphT();
+            graphLoader.setHost("127.0.0.1");
+            graphLoader.setPort(String.valueOf(server.getPort()));
+            graphLoader.setNumberOfLandmarks(2);
+            graphLoader.setCreateLandmarkIndexAfterLoad(true);
+            DirectedGraph<Node, Edge> graph = graphLoader.execute("MATCH (n)-[r]->(m) RETURN n,r,m");
+            // changes after loading do not change the index
+            graph.removeVertex(new Node("10"));
+            LandmarkIndex index = graphLoader.getLandmarkIndex();
+            assertEquals(2, index.getLandmarks().size());
+            assertSame(index, graphLoader.getLandmarkIndex());
+            assertEquals(19, index.findPathBetween(new Node("0"), new Node("19")).size());
+        } finally {
+            server.stop();
+        }
+    }
+
+    private Map<Edge, Double> getWeights(DirectedGraph<Node, Edge> graph) {
+        Map<Edge, Double> weights = new HashMap<Edge, Double>();
+        for (Edge edge : graph.edgeSet()) {
+            weights.put(edge, Double.valueOf(edge.getProperties().get("weight")));
+        }
+        return weights;
+    }
+
+    private double getLength(List<Edge> path) {
+        double length = 0;
+        for (Edge edge : path) {
+            length += Double.parseDouble(edge.getProperties().get("weight"));
+        }
+        return length;
+    }
+
+    private DirectedGraph<Node, Edge> createGrid(int width, int height) {
+        DirectedPseudograph<Node, Edge> graph = new DirectedPseudograph<Node, Edge>(Edge.class);
+        Node[][] nodes = new Node[width][height];
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                nodes[x][y] = new Node(x + "/" + y);
+                graph.addVertex(nodes[x][y]);
+            }
+        }
+        Random random = new Random(7);
+        int id = 0;
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                if (x + 1 < width) {
+                    id = addEdges(graph, nodes[x][y], nodes[x + 1][y], id, random);
+                }
+                if (y + 1 < height) {
+                    id = addEdges(graph, nodes[x][y], nodes[x][y + 1], id, random);
+                }
+            }
+        }
+        return graph;
+    }
+
+    private int addEdges(DirectedGraph<Node, Edge> graph, Node a, Node b, int id, Random random) {
+        int weight = 1 + random.nextInt(10);
+        id = addEdge(graph, a, b, id, weight);
+        return addEdge(graph, b, a, id, weight);
+    }
+
+    private int addEdge(DirectedGraph<Node, Edge> graph, Node a, Node b, int id, int weight) {
+        Edge edge = new Edge(String.valueOf(id), a, b, "road");
+        edge.addProperty("weight", String.valueOf(weight));
+        graph.addEdge(a, b, edge);
+        return id + 1;
+    }
+}
@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import org.jgrapht.DirectedGraph;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.murygin.neo4j.CypherToJGraphT;
+import org.murygin.neo4j.Edge;
+import org.murygin.neo4j.Node;
+import org.murygin.neo4j.load.LatencyHistogram;
+import org.murygin.neo4j.load.LoadDriver;
+import org.murygin.neo4j.load.LoadReport;
+import org.murygin.neo4j.load.StubNeo4jServer;
+
+public class LoadDriverTest {
+
+    private StubNeo4jServer server;
+    
+    @Before
+    public void startServer() throws Exception {
+        server = new StubNeo4jServer(0);
+        server.setNumberOfNodes(50);
+        server.start();
+    }
+    
+    @After
+    public void stopServer() {
+        server.stop();
+    }
+    
+    @Test
+    public void testStubServer() {
+        CypherToJGraphT graphLoader = new CypherToJGraphT();
+        graphLoader.setHost("127.0.0.1");
+        graphLoader.setPort(String.valueOf(server.getPort()));
+        DirectedGraph<Node, Edge> graph = graphLoader.execute("MATCH (n)-[r]->(m) RETURN n,r,m");
+        assertEquals(50, graph.vertexSet().size());
+        assertEquals(49, graph.edgeSet().size());
+    }
+    
+    @Test
+    public void testLoadDriver() {
+        LoadDriver driver = new LoadDriver();
+        driver.setHost("127.0.0.1");
+        driver.setPort(String.valueOf(server.getPort()));
+        driver.setQueries(Arrays.asList("MATCH (n)-[r]->(m) RETURN n,r,m", "MATCH n RETURN n"));
+        driver.setConcurrency(2);
+        driver.setRate(20);
+        driver.setDuration(1, TimeUnit.SECONDS);
+        LoadReport report = driver.run();
+        assertEquals(0, report.getErrors());
+        assertTrue("No queries completed", report.getCompleted() > 0);
+        assertTrue("More queries than the rate allows: " + report.getCompleted(), report.getCompleted() <= 20);
+        assertTrue("No bytes received", report.getResponseBytes() > 0);
+        assertTrue(report.getLatencies().getPercentile(50) <= report.getLatencies().getPercentile(99.9));
+    }
+    
+    @Test
+    public void testResponseBytes() {
+        for (LoadDriver.Mode mode : LoadDriver.Mode.values()) {
+            StubNeo4jServer modeServer = new StubNeo4jServer(0);
+            try {
+                modeServer.setNumberOfNodes(50);
+                modeServer.start();
+                LoadDriver driver = new LoadDriver();
+                driver.setHost("127.0.0.1");
+                driver.setPort(String.valueOf(modeServer.getPort()));
+                driver.setQueries(Arrays.asList("MATCH (n)-[r]->(m) RETURN n,r,m"));
+                driver.setMode(mode);
+                driver.setConcurrency(1);
+                driver.setRate(10);
+                driver.setDuration(500, TimeUnit.MILLISECONDS);
+                LoadReport report = driver.run();
+                assertEquals(0, report.getErrors());
+                assertTrue("No queries completed in mode " + mode, report.getCompleted() > 0);
+                assertEquals("Bytes in mode " + mode, modeServer.getBytesSent(), report.getResponseBytes());
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            } finally {
+                modeServer.stop();
+            }
+        }
+    }
+    
+    @Test
+    public void testLatencyHistogram() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 100000; micros++) {
+            histogram.record(micros);
+        }
+        assertEquals(100000, histogram.getCount());
+        assertEquals(100000, histogram.getMax());
+        assertTrue(Math.abs(histogram.getPercentile(50) - 50000) < 500);
+        assertTrue(Math.abs(histogram.getPercentile(99) - 99000) < 990);
+        assertTrue(Math.abs(histogram.getPercentile(99.9) - 99900) < 999);
+    }
+}
@@ -0,0 +1,167 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.murygin.neo4j.LongIntMap;
+import org.murygin.neo4j.LongObjectMap;
+
+public class LongObjectMapTest {
+
+    private static final int DEFAULT_CAPACITY = 64;
+    
+    @Test
+    public void testCollisions() {
+        // keys which are hashed to the same slot of the default capacity
+        long[] keys = findCollidingKeys(5, DEFAULT_CAPACITY);
+        LongObjectMap<String> map = new LongObjectMap<String>();
+        for (long key : keys) {
+            assertNull(map.put(key, "v" + key));
+        }
+        assertEquals(keys.length, map.size());
+        assertEquals(DEFAULT_CAPACITY, map.getCapacity());
+        for (long key : keys) {
+            assertEquals("v" + key, map.get(key));
+        }
+        assertEquals("v" + keys[2], map.put(keys[2], "x"));
+        assertEquals("x", map.get(keys[2]));
+        assertEquals(keys.length, map.size());
+        // a key after the end of the probe sequence
+        assertFalse(map.containsKey(findCollidingKeys(6, DEFAULT_CAPACITY)[5]));
+    }
+    
+    @Test
+    public void testResize() {
+        LongObjectMap<Long> map = new LongObjectMap<Long>();
+        for (long key = 0; key < DEFAULT_CAPACITY / 2; key++) {
+            map.put(key * 1000003, key);
+        }
+        assertEquals(DEFAULT_CAPACITY, map.getCapacity());
+        // load factor 0.5 exceeded
+        map.put(-1, -1L);
+        assertEquals(2 * DEFAULT_CAPACITY, map.getCapacity());
+        for (long key = 0; key < 100000; key++) {
+            map.put(key * 1000003, key);
+        }
+        assertEquals(100001, map.size());
+        assertTrue(map.getCapacity() >= 2 * map.size());
+        for (long key = 0; key < 100000; key++) {
+            assertEquals(Long.valueOf(key), map.get(key * 1000003));
+        }
+        assertEquals(Long.valueOf(-1), map.get(-1));
+        assertNull(map.get(7));
+    }
+    
+    @Test
+    public void testClear() {
+        LongObjectMap<String> map = new LongObjectMap<String>();
+        map.put(1, "a");
+        map.clear();
+        assertEquals(0, map.size());
+        assertEquals(DEFAULT_CAPACITY, map.getCapacity());
+        assertNull(map.get(1));
+        for (long key = 0; key < 1000; key++) {
+            map.put(key, "v");
+        }
+        assertTrue(map.getCapacity() > DEFAULT_CAPACITY);
+        map.clear();
+        assertEquals(0, map.size());
+        assertEquals(DEFAULT_CAPACITY, map.getCapacity());
+        assertNull(map.get(500));
+        map.put(500, "w");
+        assertEquals("w", map.get(500));
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testNullValue() {
+        new LongObjectMap<String>().put(1, null);
+    }
+    
+    @Test
+    public void testParseId() {
+        assertEquals(0, LongObjectMap.parseId("0"));
+        assertEquals(4711, LongObjectMap.parseId("4711"));
+        assertEquals(999999999999999999L, LongObjectMap.parseId("999999999999999999"));
+        assertEquals(1000000000000000000L, LongObjectMap.parseId("1000000000000000000"));
+        assertEquals(Long.MAX_VALUE, LongObjectMap.parseId(String.valueOf(Long.MAX_VALUE)));
+        // overflow
+        assertEquals(-1, LongObjectMap.parseId("9223372036854775808"));
+        assertEquals(-1, LongObjectMap.parseId("9999999999999999999"));
+        assertEquals(-1, LongObjectMap.parseId("10000000000000000000"));
+        assertEquals(-1, LongObjectMap.parseId(null));
+        assertEquals(-1, LongObjectMap.parseId(""));
+        assertEquals(-1, LongObjectMap.parseId("-1"));
+        assertEquals(-1, LongObjectMap.parseId("+1"));
+        assertEquals(-1, LongObjectMap.parseId("12a"));
+        assertEquals(-1, LongObjectMap.parseId(" 1"));
+        assertEquals(-1, LongObjectMap.parseId("1.0"));
+        assertEquals(-1, LongObjectMap.parseId("\u0661"));
+        // "01" and "1" are different ids
+        assertEquals(-1, LongObjectMap.parseId("01"));
+        assertEquals(-1, LongObjectMap.parseId("00"));
+    }
+    
+    @Test
+    public void testLongIntMap() {
+        LongIntMap map = new LongIntMap();
+        long[] keys = findCollidingKeys(5, DEFAULT_CAPACITY);
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(LongIntMap.NO_VALUE, map.put(keys[i], i));
+        }
+        for (int i = 0; i < keys.length; i++) {
+            assertEquals(i, map.get(keys[i]));
+        }
+        assertEquals(1, map.put(keys[1], 0));
+        assertEquals(0, map.get(keys[1]));
+        for (int i = 0; i < 100000; i++) {
+            map.put(i, i);
+        }
+        assertEquals(LongIntMap.NO_VALUE, map.get(-1));
+        assertEquals(99999, map.get(99999));
+        assertTrue(map.getCapacity() >= 2 * map.size());
+        map.clear();
+        assertEquals(0, map.size());
+        assertEquals(DEFAULT_CAPACITY, map.getCapacity());
+        assertFalse(map.containsKey(99999));
+        assertTrue(new LongIntMap(1000).getCapacity() >= 2000);
+    }
+    
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeValue() {
+        new LongIntMap().put(1, -1);
+    }
+    
+    /**
+     * Finds keys with the same slot, the hash function is the one of the maps.
+     */
+    private static long[] findCollidingKeys(int number, int capacity) {
+        long[] keys = new long[number];
+        int found = 0;
+        for (long key = 0; found < number; key++) {
+            long hash = key * 0x9E3779B97F4A7C15L;
+            if (((int) (hash ^ (hash >>> 32)) & (capacity - 1)) == 0) {
+                keys[found++] = key;
+            }
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,129 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.jgrapht.DirectedGraph;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.murygin.neo4j.CypherToJGraphT;
+import org.murygin.neo4j.Edge;
+import org.murygin.neo4j.MemoryBudget;
+import org.murygin.neo4j.MemoryBudgetExceededException;
+import org.murygin.neo4j.Node;
+import org.murygin.neo4j.load.StubNeo4jServer;
+
+public class MemoryBudgetTest {
+
+    private static final String QUERY = "MATCH (n)-[r]->(m) RETURN n,r,m";
+    
+    private StubNeo4jServer server;
+    
+    @Before
+    public void startServer() throws Exception {
+        server = new StubNeo4jServer(0);
+        server.setNumberOfNodes(100);
+        server.start();
+    }
+    
+    @After
+    public void stopServer() {
+        server.stop();
+    }
+    
+    @Test
+    public void testResponseWithinLimit() {
+        CypherToJGraphT graphLoader = createGraphLoader(createBudget(1024 * 1024, false));
+        DirectedGraph<Node, Edge> graph = graphLoader.execute(QUERY);
+        assertEquals(100, graph.vertexSet().size());
+        assertFalse(graphLoader.isTruncated());
+    }
+    
+    @Test
+    public void testResponseLimit() {
+        // the limit is checked against the content length
+        assertResponseLimit();
+    }
+    
+    @Test
+    public void testChunkedResponseLimit() {
+        // a chunked response has no content length, the limit is checked while reading
+        server.setStreamDelay(1);
+        assertResponseLimit();
+    }
+    
+    private void assertResponseLimit() {
+        CypherToJGraphT graphLoader = createGraphLoader(createBudget(1000, false));
+        try {
+            graphLoader.execute(QUERY);
+            fail("Response limit not enforced");
+        } catch (MemoryBudgetExceededException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("1000 bytes"));
+        }
+        graphLoader = createGraphLoader(createBudget(1000, true));
+        DirectedGraph<Node, Edge> graph = graphLoader.execute(QUERY);
+        assertTrue(graphLoader.isTruncated());
+        assertTrue(graph.vertexSet().isEmpty());
+    }
+    
+    @Test
+    public void testPartialStreamingResult() {
+        MemoryBudget budget = createBudget(0, true);
+        budget.setMaxNodes(10);
+        CypherToJGraphT graphLoader = createGraphLoader(budget);
+        DirectedGraph<Node, Edge> graph = graphLoader.executeStreaming(QUERY);
+        assertTrue(graphLoader.isTruncated());
+        assertEquals(10, graph.vertexSet().size());
+        // the edges between the loaded nodes are kept
+        assertEquals(9, graph.edgeSet().size());
+        // the next load starts untruncated
+        graphLoader.setMemoryBudget(null);
+        graphLoader.executeStreaming(QUERY);
+        assertFalse(graphLoader.isTruncated());
+    }
+    
+    @Test
+    public void testPartialResultByGraphSize() {
+        MemoryBudget budget = createBudget(0, true);
+        budget.setMaxGraphBytes(20 * 1024);
+        CypherToJGraphT graphLoader = createGraphLoader(budget);
+        DirectedGraph<Node, Edge> graph = graphLoader.execute(QUERY);
+        assertTrue(graphLoader.isTruncated());
+        assertTrue(graph.vertexSet().size() > 0 && graph.vertexSet().size() < 100);
+        assertTrue(graphLoader.getFootprint().getEstimatedBytes() <= budget.getMaxGraphBytes());
+    }
+    
+    private static MemoryBudget createBudget(long maxResponseBytes, boolean partialResults) {
+        MemoryBudget budget = new MemoryBudget();
+        budget.setMaxResponseBytes(maxResponseBytes);
+        budget.setPartialResults(partialResults);
+        return budget;
+    }
+    
+    private CypherToJGraphT createGraphLoader(MemoryBudget budget) {
+        CypherToJGraphT graphLoader = new CypherToJGraphT();
+        graphLoader.setHost("127.0.0.1");
+        graphLoader.setPort(String.valueOf(server.getPort()));
+        graphLoader.setMemoryBudget(budget);
+        return graphLoader;
+    }
+}
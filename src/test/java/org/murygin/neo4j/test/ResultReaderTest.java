@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.junit.Test;
+import org.murygin.neo4j.ResultReader;
+
+public class ResultReaderTest {
+
+    private static final String ERRORS = "\"errors\":[{\"code\":\"Neo.ClientError.Statement.InvalidSyntax\",\"message\":\"Invalid input\"}]";
+    
+    @Test
+    public void testRows() {
+        ResultReader reader = createReader("{\"results\":[{\"columns\":[\"a\",\"b\"],\"data\":[{\"row\":[1,\"x\"]},{\"row\":[2,\"y\"]}]}],\"errors\":[]}");
+        assertEquals("[1,\"x\"]", reader.nextData().get("row").toString());
+        assertEquals(Arrays.asList("a", "b"), reader.getColumns());
+        assertEquals("[2,\"y\"]", reader.nextData().get("row").toString());
+        assertNull(reader.nextData());
+        assertTrue(reader.isClosed());
+        assertNull(reader.nextData());
+    }
+    
+    @Test
+    public void testEmptyData() {
+        ResultReader reader = createReader("{\"results\":[{\"columns\":[\"n\"],\"data\":[]}],\"errors\":[]}");
+        assertNull(reader.nextData());
+        assertEquals(Arrays.asList("n"), reader.getColumns());
+        reader = createReader("{\"results\":[],\"errors\":[]}");
+        assertNull(reader.nextData());
+        assertEquals(Collections.emptyList(), reader.getColumns());
+    }
+    
+    @Test
+    public void testErrorsAfterResults() {
+        ResultReader reader = createReader("{\"results\":[{\"columns\":[\"n\"],\"data\":[{\"row\":[1]}]}]," + ERRORS + "}");
+        assertNotNull(reader.nextData());
+        assertErrors(reader);
+    }
+    
+    @Test
+    public void testErrorsBeforeResults() {
+        ResultReader reader = createReader("{" + ERRORS + ",\"results\":[{\"columns\":[\"n\"],\"data\":[{\"row\":[1]}]}]}");
+        // the data is read, the errors are reported at the end
+        assertEquals("[1]", reader.nextData().get("row").toString());
+        assertErrors(reader);
+        reader = createReader("{" + ERRORS + ",\"results\":[]}");
+        assertErrors(reader);
+    }
+    
+    @Test
+    public void testMultipleStatements() {
+        ResultReader reader = createReader("{\"results\":["
+                + "{\"columns\":[\"a\"],\"data\":[{\"row\":[1]},{\"row\":[2]}]},"
+                + "{\"columns\":[\"b\",\"c\"],\"data\":[]},"
+                + "{\"columns\":[\"d\"],\"data\":[{\"row\":[3]}]}"
+                + "],\"errors\":[]}");
+        assertEquals("[1]", reader.nextData().get("row").toString());
+        assertEquals(Arrays.asList("a"), reader.getColumns());
+        assertEquals("[2]", reader.nextData().get("row").toString());
+        assertEquals("[3]", reader.nextData().get("row").toString());
+        assertEquals(Arrays.asList("d"), reader.getColumns());
+        assertNull(reader.nextData());
+    }
+    
+    @Test
+    public void testNestedValues() throws Exception {
+        String dataEntry = "{\"row\":[[1,[2,3],[]],{\"a\":{\"b\":[true,null,{\"c\":\"d\"}]},\"e\":{}},\"columns\"],"
+                + "\"graph\":{\"nodes\":[{\"id\":\"1\",\"labels\":[\"x\"],\"properties\":{\"list\":[1.5,[\"data\"]],\"map\":{\"data\":{\"row\":1}}}}],"
+                + "\"relationships\":[]}}";
+        ResultReader reader = createReader("{\"results\":[{\"columns\":[\"a\",\"b\",\"c\"],\"data\":[" + dataEntry + "," + dataEntry + "]}],\"errors\":[]}");
+        JSONObject expected = (JSONObject) new JSONParser().parse(dataEntry);
+        assertEquals(expected, reader.nextData());
+        assertEquals(expected, reader.nextData());
+        assertNull(reader.nextData());
+        assertEquals(Arrays.asList("a", "b", "c"), reader.getColumns());
+    }
+    
+    @Test
+    public void testPauseAfterDataEntry() {
+        StringBuilder sb = new StringBuilder("{\"results\":[{\"columns\":[\"n\"],\"data\":[");
+        int numberOfEntries = 10000;
+        for (int i = 0; i < numberOfEntries; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"row\":[").append(i).append("],\"graph\":{\"nodes\":[],\"relationships\":[]}}");
+        }
+        sb.append("]}],\"errors\":[]}");
+        byte[] bytes = sb.toString().getBytes(StandardCharsets.UTF_8);
+        AtomicInteger bytesRead = new AtomicInteger();
+        InputStream in = new ByteArrayInputStream(bytes) {
+            @Override
+            public synchronized int read(byte[] buffer, int offset, int length) {
+                int read = super.read(buffer, offset, length);
+                bytesRead.addAndGet(Math.max(0, read));
+                return read;
+            }
+        };
+        ResultReader reader = new ResultReader(in, null);
+        JSONObject first = reader.nextData();
+        assertEquals("[0]", first.get("row").toString());
+        assertEquals(2, first.size());
+        assertTrue("Read ahead too far: " + bytesRead.get(), bytesRead.get() < bytes.length / 10);
+        for (int i = 1; i < numberOfEntries; i++) {
+            JSONArray row = (JSONArray) reader.nextData().get("row");
+            assertEquals(Long.valueOf(i), row.get(0));
+        }
+        assertNull(reader.nextData());
+        assertEquals(bytes.length, bytesRead.get());
+    }
+    
+    @Test
+    public void testClose() {
+        AtomicInteger closed = new AtomicInteger();
+        ResultReader reader = new ResultReader(toStream("{\"results\":[{\"columns\":[\"n\"],\"data\":[{\"row\":[1]},{\"row\":[2]}]}],\"errors\":[]}"), 
+                () -> closed.incrementAndGet());
+        assertNotNull(reader.nextData());
+        reader.close();
+        reader.close();
+        assertEquals(1, closed.get());
+        assertNull(reader.nextData());
+    }
+    
+    @Test
+    public void testInvalidJson() {
+        AtomicInteger closed = new AtomicInteger();
+        ResultReader reader = new ResultReader(toStream("{\"results\":[{\"columns\":[\"n\"],\"data\":[{\"row\":[1]},{\"row\":"), 
+                () -> closed.incrementAndGet());
+        assertNotNull(reader.nextData());
+        try {
+            reader.nextData();
+            fail("Truncated JSON not detected");
+        } catch (RuntimeException e) {
+            assertEquals(1, closed.get());
+        }
+    }
+    
+    private static void assertErrors(ResultReader reader) {
+        try {
+            reader.nextData();
+            fail("Errors not reported");
+        } catch (RuntimeException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("Invalid input"));
+        }
+    }
+    
+    private static ResultReader createReader(String json) {
+        return new ResultReader(toStream(json), null);
+    }
+
+    private static InputStream toStream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,237 @@
+/*******************************************************************************
+ * Copyright (c) 2026 jgrapht-neo4j-client contributors.
+ *
+ * This program is free software: you can redistribute it and/or 
+ * modify it under the terms of the GNU Lesser General Public License 
+ * as published by the Free Software Foundation, either version 3 
+ * of the License, or (at your option) any later version.
+ * This program is distributed in the hope that it will be useful,    
+ * but WITHOUT ANY WARRANTY; without even the implied warranty 
+ * of MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  
+ * See the GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with this program. 
+ * If not, see <http://www.gnu.org/licenses/>.
+ ******************************************************************************/
+package org.murygin.neo4j.test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.json.simple.JSONArray;
+import org.json.simple.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.murygin.neo4j.CypherToJson;
+import org.murygin.neo4j.IRowCursor;
+import org.murygin.neo4j.Row;
+import org.murygin.neo4j.Transaction;
+import org.murygin.neo4j.load.StubNeo4jServer;
+import org.murygin.neo4j.load.StubNeo4jServer.ReceivedRequest;
+
+public class TransactionTest {
+
+    private static final String PAGED_QUERY = "MATCH (n) RETURN id(n) AS id ORDER BY id(n)";
+    private static final String KEYSET_QUERY = "MATCH (n) WHERE id(n) > {after} RETURN id(n) AS id ORDER BY id(n) LIMIT {limit}";
+    private static final String FAILING_QUERY = "MATCH (n) RETURN x";
+    private static final int NUMBER_OF_ROWS = 25;
+    
+    // the page clause and parameters documented by Transaction
+    private static final String PAGE_CLAUSE = " SKIP {skip} LIMIT {limit}";
+    private static final String SKIP = "skip";
+    private static final String AFTER = "after";
+    private static final String LIMIT = "limit";
+    
+    private StubNeo4jServer server;
+    
+    @Before
+    public void startServer() throws Exception {
+        server = new StubNeo4jServer(0);
+        server.setStatementHandler(TransactionTest::handle);
+        server.setRecordRequests(true);
+        server.start();
+    }
+    
+    @After
+    public void stopServer() {
+        server.stop();
+    }
+    
+    @Test
+    public void testCommit() {
+        Transaction transaction = createExecuter().beginTransaction();
+        assertTrue(transaction.isOpen());
+        assertTrue(transaction.getUri(), transaction.getUri().endsWith(CypherToJson.DEFAULT_TRANSACTION_PATH + "/1"));
+        transaction.execute("MATCH (n) RETURN n");
+        transaction.commit();
+        assertFalse(transaction.isOpen());
+        // a committed transaction is not rolled back
+        transaction.close();
+        List<ReceivedRequest> requests = server.getReceivedRequests();
+        assertEquals(3, requests.size());
+        assertRequest(requests.get(0), "POST", CypherToJson.DEFAULT_TRANSACTION_PATH);
+        assertTrue(requests.get(0).getStatements().isEmpty());
+        assertRequest(requests.get(1), "POST", CypherToJson.DEFAULT_TRANSACTION_PATH + "/1");
+        assertEquals("MATCH (n) RETURN n", requests.get(1).getQuery(0));
+        assertRequest(requests.get(2), "POST", CypherToJson.DEFAULT_TRANSACTION_PATH + "/1/commit");
+    }
+    
+    @Test
+    public void testRollback() {
+        try (Transaction transaction = createExecuter().beginTransaction()) {
+            transaction.execute("MATCH (n) RETURN n");
+        }
+        List<ReceivedRequest> requests = server.getReceivedRequests();
+        assertEquals(3, requests.size());
+        assertRequest(requests.get(2), "DELETE", CypherToJson.DEFAULT_TRANSACTION_PATH + "/1");
+    }
+    
+    @Test
+    public void testFailedStatement() {
+        Transaction transaction = createExecuter().beginTransaction();
+        try {
+            transaction.execute(FAILING_QUERY);
+            fail("Error not reported");
+        } catch (RuntimeException e) {
+            assertTrue(e.getMessage(), e.getMessage().contains("Variable `x` not defined"));
+        }
+        // Neo4j rolled back the transaction
+        assertFalse(transaction.isOpen());
+        transaction.close();
+        assertEquals(2, server.getReceivedRequests().size());
+    }
+    
+    @Test
+    public void testPagedCursor() {
+        List<Long> ids = new ArrayList<Long>();
+        try (Transaction transaction = createExecuter().beginTransaction(); 
+                IRowCursor cursor = transaction.openPagedCursor(PAGED_QUERY, 10)) {
+            while (cursor.hasNext()) {
+                ids.add(cursor.next().getLong("id"));
+            }
+            transaction.commit();
+        }
+        assertIds(ids);
+        List<ReceivedRequest> pages = getPageRequests();
+        assertEquals(3, pages.size());
+        for (int i = 0; i < pages.size(); i++) {
+            assertEquals(PAGED_QUERY + PAGE_CLAUSE, pages.get(i).getQuery(0));
+            JSONObject parameters = pages.get(i).getParameters(0);
+            assertEquals(Long.valueOf(i * 10), parameters.get(SKIP));
+            assertEquals(Long.valueOf(10), parameters.get(LIMIT));
+        }
+    }
+    
+    @Test
+    public void testKeysetCursor() {
+        List<Long> ids = new ArrayList<Long>();
+        try (Transaction transaction = createExecuter().beginTransaction(); 
+                IRowCursor cursor = transaction.openKeysetCursor(KEYSET_QUERY, "id", 10)) {
+            while (cursor.hasNext()) {
+                ids.add(cursor.next().getLong("id"));
+            }
+            transaction.commit();
+        }
+        assertIds(ids);
+        List<ReceivedRequest> pages = getPageRequests();
+        assertEquals(3, pages.size());
+        long[] after = {-1, 9, 19};
+        for (int i = 0; i < pages.size(); i++) {
+            assertEquals(KEYSET_QUERY, pages.get(i).getQuery(0));
+            JSONObject parameters = pages.get(i).getParameters(0);
+            assertEquals(Long.valueOf(after[i]), parameters.get(AFTER));
+            assertFalse(parameters.containsKey(SKIP));
+        }
+    }
+    
+    @Test
+    public void testLastPageFull() {
+        List<Long> ids = new ArrayList<Long>();
+        try (Transaction transaction = createExecuter().beginTransaction(); 
+                IRowCursor cursor = transaction.openPagedCursor(PAGED_QUERY, 5)) {
+            while (cursor.hasNext()) {
+                ids.add(cursor.next().getLong("id"));
+            }
+        }
+        assertIds(ids);
+        // the last page is empty
+        assertEquals(6, getPageRequests().size());
+    }
+    
+    @Test
+    public void testPagedStream() {
+        List<Long> ids;
+        try (Transaction transaction = createExecuter().beginTransaction(); 
+                Stream<Row> rows = transaction.openPagedCursor(PAGED_QUERY, 10).stream()) {
+            ids = rows.map(row -> row.getLong("id")).collect(Collectors.toList());
+            transaction.commit();
+        }
+        assertIds(ids);
+        assertEquals(3, getPageRequests().size());
+    }
+    
+    private static void assertIds(List<Long> ids) {
+        assertEquals(NUMBER_OF_ROWS, ids.size());
+        for (int i = 0; i < NUMBER_OF_ROWS; i++) {
+            assertEquals(Long.valueOf(i), ids.get(i));
+        }
+    }
+    
+    private static void assertRequest(ReceivedRequest request, String method, String path) {
+        assertEquals(method, request.getMethod());
+        assertEquals(path, request.getPath());
+    }
+    
+    private List<ReceivedRequest> getPageRequests() {
+        List<ReceivedRequest> pages = new ArrayList<ReceivedRequest>();
+        for (ReceivedRequest request : server.getReceivedRequests()) {
+            if (!request.getStatements().isEmpty()) {
+                pages.add(request);
+            }
+        }
+        return pages;
+    }
+    
+    /**
+     * Returns the rows with ids 0 to NUMBER_OF_ROWS - 1 in pages.
+     */
+    @SuppressWarnings("unchecked")
+    private static String handle(String query, JSONObject parameters) {
+        if (FAILING_QUERY.equals(query)) {
+            throw new IllegalArgumentException("Variable `x` not defined");
+        }
+        if (parameters == null || !parameters.containsKey(LIMIT)) {
+            return null;
+        }
+        long limit = (Long) parameters.get(LIMIT);
+        long first = parameters.containsKey(AFTER) 
+                ? (Long) parameters.get(AFTER) + 1 
+                : (Long) parameters.get(SKIP);
+        JSONArray data = new JSONArray();
+        for (long id = first; id < Math.min(NUMBER_OF_ROWS, first + limit); id++) {
+            JSONArray row = new JSONArray();
+            row.add(id);
+            JSONObject dataEntry = new JSONObject();
+            dataEntry.put("row", row);
+            data.add(dataEntry);
+        }
+        // like Neo4j the columns are sent before the data
+        return "{\"columns\":[\"id\"],\"data\":" + data.toJSONString() + "}";
+    }
+    
+    private CypherToJson createExecuter() {
+        CypherToJson executer = new CypherToJson();
+        executer.setHost("127.0.0.1");
+        executer.setPort(String.valueOf(server.getPort()));
+        return executer;
+    }
+}